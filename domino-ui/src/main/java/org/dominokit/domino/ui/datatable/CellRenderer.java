@@ -11,6 +11,15 @@ import static java.util.Objects.requireNonNull;
 public interface CellRenderer<T> {
     Node asElement(CellInfo<T> cellInfo);
 
+    /**
+     * Updates the content this renderer added to the cell for the current record of the row.
+     *
+     * @return false when the cell content has to be rendered again with {@link #asElement(CellInfo)}
+     */
+    default boolean updateElement(CellInfo<T> cellInfo) {
+        return false;
+    }
+
     class CellInfo<T>{
         private final TableRow<T> tableRow;
         private final HTMLTableCellElement element;
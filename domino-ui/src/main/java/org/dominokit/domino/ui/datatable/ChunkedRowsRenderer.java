@@ -0,0 +1,91 @@
+package org.dominokit.domino.ui.datatable;
+
+import elemental2.dom.DomGlobal;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Renders the rows of the table in chunks limited by the table config frame budget, the first chunk is rendered right
+ * away and the rest in the following animation frames, batches are rendered in the order they are added and the
+ * callback of a batch is called once all of its rows are rendered, the rows rendered in a frame are appended to the
+ * table body as one batch.
+ */
+class ChunkedRowsRenderer<T> {
+
+    private final DataTable<T> dataTable;
+    private final Deque<RowsBatch<T>> batches = new ArrayDeque<>();
+    private double pendingFrame = -1;
+    private boolean rendering = false;
+
+    ChunkedRowsRenderer(DataTable<T> dataTable) {
+        this.dataTable = dataTable;
+    }
+
+    void render(List<T> records, int initialIndex, Runnable onRendered) {
+        batches.add(new RowsBatch<>(new ArrayList<>(records), initialIndex, onRendered));
+        if (pendingFrame < 0 && !rendering) {
+            renderChunk();
+        }
+    }
+
+    boolean isRendering() {
+        return !batches.isEmpty();
+    }
+
+    void cancel() {
+        batches.clear();
+        if (pendingFrame >= 0) {
+            DomGlobal.cancelAnimationFrame(pendingFrame);
+            pendingFrame = -1;
+        }
+    }
+
+    private void renderChunk() {
+        pendingFrame = -1;
+        rendering = true;
+        double budget = dataTable.getTableConfig().getRenderingFrameBudget();
+        double start = DomGlobal.performance.now();
+        boolean appending = false;
+        do {
+            RowsBatch<T> batch = batches.peek();
+            if (!appending) {
+                dataTable.getTableConfig().beginAppend(dataTable);
+                appending = true;
+            }
+            if (batch.position < batch.records.size()) {
+                dataTable.addRow(batch.records.get(batch.position), batch.initialIndex + batch.position);
+                batch.position++;
+            }
+            if (batch.position >= batch.records.size()) {
+                batches.poll();
+                dataTable.getTableConfig().endAppend(dataTable);
+                appending = false;
+                batch.onRendered.run();
+            }
+        } while (!batches.isEmpty() && DomGlobal.performance.now() - start < budget);
+        if (appending) {
+            dataTable.getTableConfig().endAppend(dataTable);
+        }
+        rendering = false;
+
+        if (!batches.isEmpty()) {
+            pendingFrame = DomGlobal.requestAnimationFrame(timestamp -> renderChunk());
+        }
+    }
+
+    private static final class RowsBatch<T> {
+        private final List<T> records;
+        private final int initialIndex;
+        private final Runnable onRendered;
+        private int position = 0;
+
+        private RowsBatch(List<T> records, int initialIndex, Runnable onRendered) {
+            this.records = records;
+            this.initialIndex = initialIndex;
+            this.onRendered = onRendered;
+        }
+    }
+}
@@ -3,16 +3,21 @@ package org.dominokit.domino.ui.datatable;
 import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLTableCellElement;
 import elemental2.dom.Node;
+import jsinterop.base.Js;
 import org.dominokit.domino.ui.utils.DominoElement;
 import org.dominokit.domino.ui.utils.ScreenMedia;
 import org.dominokit.domino.ui.utils.TextNode;
+import org.jboss.elemento.IsElement;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static org.jboss.elemento.Elements.td;
+import static org.jboss.elemento.Elements.th;
 
 public class ColumnConfig<T> {
 
@@ -38,11 +43,14 @@ public class ColumnConfig<T> {
     private boolean showTooltip = true;
 
     private boolean hidden = false;
+    private String columnCssClass;
 
     private ScreenMedia showOn;
     private ScreenMedia hideOn;
 
     private final List<ColumnShowHideListener> showHideListeners = new ArrayList<>();
+    private HTMLTableCellElement cellTemplate;
+    private boolean cellTemplateFixed;
 
     public static <T> ColumnConfig<T> create(String name) {
         return new ColumnConfig<>(name);
@@ -71,6 +79,7 @@ public class ColumnConfig<T> {
 
     public ColumnConfig<T> asHeader() {
         this.header = true;
+        this.cellTemplate = null;
         return this;
     }
 
@@ -144,6 +153,7 @@ public class ColumnConfig<T> {
 
     public ColumnConfig<T> setFixed(boolean fixed) {
         this.fixed = fixed;
+        this.cellTemplate = null;
         return this;
     }
 
@@ -172,6 +182,17 @@ public class ColumnConfig<T> {
         return this;
     }
 
+    /**
+     * Renders the cells of this column from a template built once and cloned for each cell, see {@link TemplateCellRenderer}.
+     *
+     * @param templateSupplier builds the cell content template, elements marked with a data-bind attribute are available to the binder
+     * @param binder           binds the record of the row to the cloned template
+     * @return same column instance
+     */
+    public ColumnConfig<T> setCellTemplate(Supplier<? extends IsElement<?>> templateSupplier, TemplateCellRenderer.TemplateBinder<T> binder) {
+        return setCellRenderer(TemplateCellRenderer.create(templateSupplier, binder));
+    }
+
     public CellRenderer<T> getEditableCellRenderer() {
         if(isNull(editableCellRenderer)){
             return cellRenderer;
@@ -252,6 +273,7 @@ public class ColumnConfig<T> {
 
     public ColumnConfig<T> showOn(ScreenMedia showOn) {
         this.showOn = showOn;
+        this.cellTemplate = null;
         return this;
     }
 
@@ -261,9 +283,30 @@ public class ColumnConfig<T> {
 
     public ColumnConfig<T> hideOn(ScreenMedia hideOn) {
         this.hideOn = hideOn;
+        this.cellTemplate = null;
         return this;
     }
 
+    /**
+     * @return a new empty cell for this column, cloned from a cell built once with the column css classes and screen media
+     */
+    HTMLTableCellElement createCellElement(boolean fixedTable) {
+        boolean fixedCell = fixedTable || fixed;
+        if (isNull(cellTemplate) || cellTemplateFixed != fixedCell) {
+            if (header) {
+                cellTemplate = th().css("dt-th-cell", columnCssClass).element();
+            } else {
+                cellTemplate = td().css("dt-td-cell", columnCssClass).element();
+            }
+            if (fixedCell) {
+                cellTemplate.classList.add(DataTableStyles.FIXED_WIDTH);
+            }
+            applyScreenMedia(cellTemplate);
+            cellTemplateFixed = fixedCell;
+        }
+        return Js.uncheckedCast(cellTemplate.cloneNode(false));
+    }
+
     void applyHeaderStyle() {
         headerStyler.styleCell(headElement);
     }
@@ -326,6 +369,15 @@ public class ColumnConfig<T> {
         return hidden;
     }
 
+    public String getColumnCssClass() {
+        return columnCssClass;
+    }
+
+    void setColumnCssClass(String columnCssClass) {
+        this.columnCssClass = columnCssClass;
+        this.cellTemplate = null;
+    }
+
     @FunctionalInterface
     public interface CellStyler<T> {
         void styleCell(HTMLTableCellElement element);
@@ -0,0 +1,101 @@
+package org.dominokit.domino.ui.datatable;
+
+import elemental2.dom.DomGlobal;
+import elemental2.dom.HTMLElement;
+import jsinterop.base.Js;
+import org.jboss.elemento.Elements;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * A style element generated per table that holds one rule per column, hiding a column or changing its width and
+ * alignment updates the rule instead of touching every cell of the column.
+ */
+class ColumnsStyleSheet<T> {
+
+    private final TableConfig<T> tableConfig;
+    private final String tableCssClass = "dt-" + Elements.uniqueId();
+    private final HTMLElement styleElement = Js.uncheckedCast(DomGlobal.document.createElement("style"));
+    private final Map<String, String> columnRules = new LinkedHashMap<>();
+
+    ColumnsStyleSheet(TableConfig<T> tableConfig) {
+        this.tableConfig = tableConfig;
+    }
+
+    String getTableCssClass() {
+        return tableCssClass;
+    }
+
+    HTMLElement element() {
+        return styleElement;
+    }
+
+    void addColumn(ColumnConfig<T> column) {
+        column.setColumnCssClass(cssClassOf(column.getName()));
+        column.addShowHideListener(new ColumnShowHideListener() {
+            @Override
+            public void onShowHide(boolean visible) {
+                updateColumn(column, !visible);
+            }
+
+            @Override
+            public boolean isPermanent() {
+                return true;
+            }
+        });
+        updateColumn(column, column.isHidden());
+    }
+
+    /**
+     * The rules are keyed by the column name, so the class is derived from the name with the characters that are not
+     * valid in a class name replaced by their code, e.g {@code first name} becomes {@code dt-cm-first_20_name}.
+     */
+    static String cssClassOf(String columnName) {
+        StringBuilder cssClass = new StringBuilder("dt-cm-");
+        for (int i = 0; i < columnName.length(); i++) {
+            char c = columnName.charAt(i);
+            if ((c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '-') {
+                cssClass.append(c);
+            } else {
+                cssClass.append('_').append(Integer.toHexString(c)).append('_');
+            }
+        }
+        return cssClass.toString();
+    }
+
+    private void updateColumn(ColumnConfig<T> column, boolean hidden) {
+        StringBuilder declarations = new StringBuilder();
+        if (hidden) {
+            declarations.append("display: none;");
+        }
+        if (tableConfig.isFixed() || column.isFixed()) {
+            String fixedWidth = tableConfig.bestFitWidth(column);
+            declarations.append("width: ").append(fixedWidth).append(";")
+                    .append("min-width: ").append(fixedWidth).append(";")
+                    .append("max-width: ").append(fixedWidth).append(";");
+        }
+        if (nonNull(column.getMinWidth())) {
+            declarations.append("min-width: ").append(column.getMinWidth()).append(";");
+        }
+        if (nonNull(column.getMaxWidth())) {
+            declarations.append("max-width: ").append(column.getMaxWidth()).append(";");
+        }
+        if (nonNull(column.getTextAlign())) {
+            declarations.append("text-align: ").append(column.getTextAlign()).append(";");
+        }
+        String columnSelector = "." + column.getColumnCssClass();
+        columnRules.put(column.getName(), "." + tableCssClass + " > thead > tr > " + columnSelector + ", "
+                + "." + tableCssClass + " > tbody > tr > " + columnSelector
+                + " {" + declarations + "}");
+        render();
+    }
+
+    private void render() {
+        StringBuilder css = new StringBuilder();
+        columnRules.values().forEach(rule -> css.append(rule).append("\n"));
+        styleElement.textContent = css.toString();
+    }
+}
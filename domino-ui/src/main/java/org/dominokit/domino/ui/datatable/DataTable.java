@@ -1,8 +1,13 @@
 package org.dominokit.domino.ui.datatable;
 
+import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+import elemental2.dom.Event;
 import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLTableElement;
 import elemental2.dom.HTMLTableSectionElement;
+import elemental2.dom.Node;
+import jsinterop.base.Js;
 import org.dominokit.domino.ui.datatable.events.*;
 import org.dominokit.domino.ui.datatable.model.SearchContext;
 import org.dominokit.domino.ui.datatable.store.DataStore;
@@ -13,6 +18,7 @@ import org.dominokit.domino.ui.utils.HasSelectionSupport;
 import java.util.*;
 import java.util.stream.Collectors;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.datatable.DataTableStyles.*;
 import static org.jboss.elemento.Elements.*;
@@ -39,11 +45,24 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
     private boolean bordered = false;
 
     private Map<String, List<TableEventListener>> events = new HashMap<>();
+    private final Map<String, TableEventListener[]> dispatchTable = new HashMap<>();
+    private final Set<String> coalescedEventTypes = new HashSet<>();
+    private final Map<String, TableEvent> coalescedEvents = new LinkedHashMap<>();
+    private double coalescedEventsFrame = -1;
+    private Map<TableEventListener, EventDispatchMetrics> dispatchMetrics;
 
     private final SearchContext<T> searchContext = new SearchContext<>(this);
+    private VirtualRowsRenderer<T> virtualRows;
+    private final ColumnsStyleSheet<T> columnsStyleSheet;
+    private int updateDepth = 0;
+    private final Set<TableRow<T>> updatedRows = new LinkedHashSet<>();
+    private final Map<String, List<RowEventListener<T>>> rowEventListeners = new HashMap<>();
+    private final SelectionModel<T> selectionModel = new SelectionModel<>(this);
+    private final ChunkedRowsRenderer<T> chunkedRows = new ChunkedRowsRenderer<>(this);
 
     public DataTable(TableConfig<T> tableConfig, DataStore<T> dataStore) {
         this.tableConfig = tableConfig;
+        this.columnsStyleSheet = new ColumnsStyleSheet<>(tableConfig);
         this.events.put(ANY, new ArrayList<>());
         this.dataStore = dataStore;
         this.addTableEventListner(ANY, dataStore);
@@ -53,12 +72,12 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
                 fireTableEvent(new DataSortEvent(dataChangedEvent.getSortDir().get(), dataChangedEvent.getSortColumn().get()));
             }
 
+            Runnable onRendered = () -> fireTableEvent(new TableDataUpdatedEvent<>(this.data, dataChangedEvent.getTotalCount()));
             if (dataChangedEvent.isAppend()) {
-                appendData(dataChangedEvent.getNewData());
+                appendData(dataChangedEvent.getNewData(), onRendered);
             } else {
-                setData(dataChangedEvent.getNewData());
+                setData(dataChangedEvent.getNewData(), onRendered);
             }
-            fireTableEvent(new TableDataUpdatedEvent<>(this.data, dataChangedEvent.getTotalCount()));
         });
 
         init();
@@ -70,6 +89,8 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
             plugin.init(DataTable.this);
             plugin.onBeforeAddTable(DataTable.this);
         });
+        root.appendChild(columnsStyleSheet.element());
+        tableElement.style().add(columnsStyleSheet.getTableCssClass());
         tableConfig.onBeforeHeaders(this);
         tableConfig.drawHeaders(this, thead);
         tableConfig.onAfterHeaders(this);
@@ -77,14 +98,18 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
         tableConfig.getPlugins().forEach(plugin -> plugin.onBodyAdded(DataTable.this));
         root.appendChild(tableElement);
         tableConfig.getPlugins().forEach(plugin -> plugin.onAfterAddTable(DataTable.this));
-        if (!tableConfig.isLazyLoad()) {
-            this.dataStore.load();
-        }
         if (tableConfig.isFixed()) {
             root.style().add(TABLE_FIXED);
             tbody.style()
                     .add(TBODY_FIXED)
                     .setMaxHeight(tableConfig.getFixedBodyHeight());
+            if (tableConfig.isVirtualScroll()) {
+                tbody.style().setHeight(tableConfig.getFixedBodyHeight());
+                this.virtualRows = new VirtualRowsRenderer<>(this);
+            }
+        }
+        if (!tableConfig.isLazyLoad()) {
+            this.dataStore.load();
         }
         super.init(this);
         return this;
@@ -95,43 +120,201 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
     }
 
     public void setData(List<T> data) {
+        setData(data, () -> {
+        });
+    }
+
+    private void setData(List<T> data, Runnable onRendered) {
         this.data = data;
+        if (canDiffRows(data) && diffRows(data)) {
+            onRendered.run();
+            return;
+        }
+        chunkedRows.cancel();
         tableRows.clear();
+        selectionModel.onRowsRemoved();
         tbody.clearElement();
-        if (nonNull(data) && !data.isEmpty()) {
-            addRows(data, 0);
+        if (isVirtualScrolling()) {
+            clearShowHideListeners();
+            virtualRows.setData(data);
+            onRendered.run();
+            return;
         }
-
         tbody.element().scrollTop = 0.0;
+        if (nonNull(data) && !data.isEmpty()) {
+            addRows(data, 0, onRendered);
+        } else {
+            onRendered.run();
+        }
     }
 
     public void appendData(List<T> newData) {
-        if (nonNull(this.data)) {
-            addRows(newData, this.data.size());
+        appendData(newData, () -> {
+        });
+    }
+
+    private void appendData(List<T> newData, Runnable onRendered) {
+        if (nonNull(this.data) && isVirtualScrolling()) {
             this.data.addAll(newData);
+            virtualRows.refresh();
+            onRendered.run();
+        } else if (nonNull(this.data)) {
+            int initialIndex = this.data.size();
+            this.data.addAll(newData);
+            addRows(newData, initialIndex, onRendered);
         } else {
-            setData(newData);
+            setData(newData, onRendered);
+        }
+    }
+
+    private boolean canDiffRows(List<T> newData) {
+        return nonNull(tableConfig.getRecordKeyProvider())
+                && !isVirtualScrolling()
+                && tableConfig.isDefaultRowAppender()
+                && nonNull(newData)
+                && !newData.isEmpty()
+                && !tableRows.isEmpty()
+                && !chunkedRows.isRendering()
+                && !hasExtraRows();
+    }
+
+    /**
+     * @return true if the table body has rows that are not record rows, e.g the rows added by the record details plugin,
+     * these rows are not tracked by the table so the diff cannot move them with their record rows
+     */
+    private boolean hasExtraRows() {
+        for (Node child = tbody.element().firstChild; nonNull(child); child = child.nextSibling) {
+            if (isNull(TableRow.of(child)) && !isScrollSentinel(child)) {
+                return true;
+            }
         }
+        return false;
+    }
+
+    private boolean isScrollSentinel(Node node) {
+        return node.nodeType == Node.ELEMENT_NODE && Js.<Element>uncheckedCast(node).classList.contains(SCROLL_SENTINEL);
     }
 
-    private void addRows(List<T> data, int initialIndex) {
-        tableConfig.getColumns()
-                .forEach(ColumnConfig::clearShowHideListners);
+    private Node firstRowNode() {
+        Node node = tbody.element().firstChild;
+        while (nonNull(node) && isScrollSentinel(node)) {
+            node = node.nextSibling;
+        }
+        return node;
+    }
+
+    /**
+     * Reuses the rows of the records that exist in the new data, a reused row is updated only when the
+     * {@link RecordChangeDetector} of the table config reports its record as changed, the updates are reported as one
+     * batch.
+     *
+     * @return false without changing the table if the current rows have duplicate keys and cannot be matched
+     */
+    private boolean diffRows(List<T> newData) {
+        RecordKeyProvider<T> keyProvider = tableConfig.getRecordKeyProvider();
+        RecordChangeDetector<T> changeDetector = tableConfig.getRecordChangeDetector();
+        Map<Object, TableRow<T>> currentRows = new HashMap<>();
+        for (TableRow<T> tableRow : tableRows) {
+            if (nonNull(currentRows.put(keyProvider.getRecordKey(tableRow.getRecord()), tableRow))) {
+                return false;
+            }
+        }
 
+        List<TableRow<T>> newRows = new ArrayList<>(newData.size());
+        List<TableRow<T>> changedRows = new ArrayList<>();
+        List<T> changedRecords = new ArrayList<>();
+        for (int index = 0; index < newData.size(); index++) {
+            T record = newData.get(index);
+            TableRow<T> tableRow = currentRows.remove(keyProvider.getRecordKey(record));
+            if (nonNull(tableRow)) {
+                tableRow.setIndex(index);
+                if (changeDetector.isChanged(tableRow.getRecord(), record)) {
+                    changedRows.add(tableRow);
+                    changedRecords.add(record);
+                }
+            } else {
+                TableRow<T> addedRow = new TableRow<>(record, index, this);
+                selectionModel.restoreSelection(addedRow);
+                tableConfig.getPlugins().forEach(plugin -> plugin.onBeforeAddRow(DataTable.this, addedRow));
+                tableConfig.drawRecord(DataTable.this, addedRow);
+                tableRow = addedRow;
+            }
+            newRows.add(tableRow);
+        }
+
+        currentRows.values().forEach(tableRow -> {
+            tableRow.element().remove();
+            selectionModel.onRowRemoved(tableRow);
+        });
+
+        Node previous = null;
+        for (TableRow<T> tableRow : newRows) {
+            Node expected = isNull(previous) ? firstRowNode() : previous.nextSibling;
+            if (tableRow.element() != expected) {
+                tbody.element().insertBefore(tableRow.element(), expected);
+            }
+            previous = tableRow.element();
+        }
+
+        tableRows.clear();
+        tableRows.addAll(newRows);
+
+        beginUpdate();
+        for (int i = 0; i < changedRows.size(); i++) {
+            changedRows.get(i).updateRow(changedRecords.get(i));
+        }
+        commitUpdate();
+
+        tableConfig.getPlugins().forEach(plugin -> plugin.onAllRowsAdded(DataTable.this));
+        return true;
+    }
+
+    /**
+     * Drops the column show/hide listeners added by the cells of the previous rows, listeners marked permanent are kept.
+     */
+    private void clearShowHideListeners() {
+        tableConfig.getColumns().forEach(ColumnConfig::clearShowHideListners);
+    }
+
+    private void addRows(List<T> data, int initialIndex, Runnable onRendered) {
+        clearShowHideListeners();
+        if (tableConfig.isChunkedRendering()) {
+            chunkedRows.render(data, initialIndex, () -> {
+                tableConfig.getPlugins().forEach(plugin -> plugin.onAllRowsAdded(DataTable.this));
+                onRendered.run();
+            });
+            return;
+        }
+        tableConfig.beginAppend(this);
         for (int index = 0; index < data.size(); index++) {
-            TableRow<T> tableRow = new TableRow<>(data.get(index), initialIndex + index, this);
-            tableConfig.getPlugins().forEach(plugin -> plugin.onBeforeAddRow(DataTable.this, tableRow));
-            tableConfig.drawRecord(DataTable.this, tableRow);
-            tableRows.add(tableRow);
+            addRow(data.get(index), initialIndex + index);
         }
+        tableConfig.endAppend(this);
 
         tableConfig.getPlugins().forEach(plugin -> plugin.onAllRowsAdded(DataTable.this));
+        onRendered.run();
+    }
+
+    void addRow(T record, int index) {
+        TableRow<T> tableRow = new TableRow<>(record, index, this);
+        selectionModel.restoreSelection(tableRow);
+        tableConfig.getPlugins().forEach(plugin -> plugin.onBeforeAddRow(DataTable.this, tableRow));
+        tableConfig.drawRecord(DataTable.this, tableRow);
+        tableRows.add(tableRow);
     }
 
     public Collection<T> getData() {
         return data;
     }
 
+    ColumnsStyleSheet<T> getColumnsStyleSheet() {
+        return columnsStyleSheet;
+    }
+
+    private boolean isVirtualScrolling() {
+        return nonNull(virtualRows);
+    }
+
     public DataTable<T> uncondense() {
         tableElement.style().remove(TABLE_CONDENSED);
         this.condensed = false;
@@ -184,20 +367,74 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
     }
 
     public DataTable<T> edit(){
+        beginUpdate();
         getItems().forEach(TableRow::edit);
-        return this;
+        return commitUpdate();
     }
 
     public DataTable<T> save(){
+        beginUpdate();
         getItems().forEach(TableRow::save);
-        return this;
+        return commitUpdate();
     }
 
     public DataTable<T> cancelEditing(){
+        beginUpdate();
         getItems().forEach(TableRow::cancelEditing);
+        return commitUpdate();
+    }
+
+    /**
+     * Starts an update batch, rows updated until the matching {@link #commitUpdate()} are reported at the commit with a
+     * single {@link RowsUpdatedEvent} and a single {@link TableDataUpdatedEvent} instead of a data updated event for each
+     * row, batches can be nested and only the outer commit fires the events.
+     *
+     * @return same DataTable instance
+     */
+    public DataTable<T> beginUpdate() {
+        updateDepth++;
         return this;
     }
 
+    public DataTable<T> commitUpdate() {
+        if (updateDepth > 0 && --updateDepth == 0 && !updatedRows.isEmpty()) {
+            List<TableRow<T>> rows = new ArrayList<>(updatedRows);
+            updatedRows.clear();
+            fireRowsUpdated(rows);
+        }
+        return this;
+    }
+
+    void onRowUpdated(TableRow<T> tableRow) {
+        if (updateDepth > 0) {
+            updatedRows.add(tableRow);
+        } else {
+            fireRowsUpdated(Collections.singletonList(tableRow));
+        }
+    }
+
+    /**
+     * A single updated row is fired as before with a {@link RowRecordUpdatedEvent}, for a batch of rows the
+     * {@link RowRecordUpdatedEvent} of each row is only handed to the listeners registered for that type, the listeners
+     * of all the events get one {@link RowsUpdatedEvent} for the whole batch.
+     */
+    private void fireRowsUpdated(List<TableRow<T>> rows) {
+        List<TableEventListener> recordListeners = events.get(RowRecordUpdatedEvent.RECORD_UPDATED);
+        if (rows.size() == 1) {
+            fireTableEvent(new RowRecordUpdatedEvent<>(rows.get(0)));
+        } else if (nonNull(recordListeners) && !recordListeners.isEmpty()) {
+            TableEventListener[] listeners = recordListeners.toArray(new TableEventListener[0]);
+            rows.forEach(tableRow -> {
+                RowRecordUpdatedEvent<T> rowEvent = new RowRecordUpdatedEvent<>(tableRow);
+                for (TableEventListener listener : listeners) {
+                    listener.handleEvent(rowEvent);
+                }
+            });
+        }
+        fireTableEvent(new RowsUpdatedEvent<>(rows));
+        fireTableEvent(new TableDataUpdatedEvent<>(new ArrayList<>(data), data.size()));
+    }
+
     public DominoElement<HTMLTableElement> tableElement() {
         return tableElement;
     }
@@ -261,11 +498,15 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
 
     @Override
     public List<TableRow<T>> getSelectedItems() {
-        return tableRows.stream().filter(TableRow::isSelected).collect(Collectors.toList());
+        return selectionModel.getSelectedRows();
     }
 
     public List<T> getSelectedRecords() {
-        return getSelectedItems().stream().map(TableRow::getRecord).collect(Collectors.toList());
+        return selectionModel.getSelectedRecords();
+    }
+
+    public SelectionModel<T> getSelectionModel() {
+        return selectionModel;
     }
 
     @Override
@@ -274,6 +515,9 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
     }
 
     public List<T> getRecords(){
+        if (isVirtualScrolling()) {
+            return virtualRows.getRecords();
+        }
         return getItems()
                 .stream()
                 .map(TableRow::getRecord)
@@ -287,9 +531,22 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
                 .collect(Collectors.toList());
     }
 
+    TableRow<T> getRenderedRow(int index) {
+        if (isVirtualScrolling()) {
+            return virtualRows.getRenderedRow(index);
+        }
+        return index >= 0 && index < tableRows.size() ? tableRows.get(index) : null;
+    }
+
+    void onRowSelectedStateChanged(TableRow<T> tableRow) {
+        selectionModel.onRowSelectedStateChanged(tableRow);
+    }
+
     @Override
     public void onSelectionChange(TableRow<T> source) {
-        selectionChangeListeners.forEach(selectionChangeListener -> selectionChangeListener.onSelectionChanged(getSelectedItems(), getSelectedRecords()));
+        List<TableRow<T>> selectedItems = getSelectedItems();
+        List<T> selectedRecords = getSelectedRecords();
+        selectionChangeListeners.forEach(selectionChangeListener -> selectionChangeListener.onSelectionChanged(selectedItems, selectedRecords));
     }
 
     @Override
@@ -299,12 +556,7 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
 
     public void selectAll(SelectionCondition<T> selectionCondition) {
         if (tableConfig.isMultiSelect() && !tableRows.isEmpty()) {
-            for (TableRow<T> tableRow : tableRows) {
-                if (selectionCondition.isAllowSelection(this, tableRow)) {
-                    tableRow.select();
-                }
-            }
-            onSelectionChange(tableRows.get(0));
+            selectionModel.selectAll(selectionCondition);
         }
     }
 
@@ -314,16 +566,7 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
     }
 
     public void deselectAll(SelectionCondition<T> selectionCondition) {
-        if (!tableRows.isEmpty()) {
-            for (TableRow<T> tableRow : tableRows) {
-                if (tableRow.isSelected()) {
-                    if (selectionCondition.isAllowSelection(this, tableRow)) {
-                        tableRow.deselect();
-                    }
-                }
-            }
-            onSelectionChange(tableRows.get(0));
-        }
+        selectionModel.deselectAll(selectionCondition);
     }
 
     @Override
@@ -339,25 +582,165 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
         this.selectionChangeListeners.remove(selectionChangeListener);
     }
 
+    /**
+     * Registers the listener for the events of the type, a listener registered for {@link #ANY} that declares the
+     * types it handles with {@link TableEventListener#getHandledEventTypes()} for its own class is registered for
+     * these types only.
+     */
     public void addTableEventListner(String type, TableEventListener listener) {
-        if (!events.containsKey(type)) {
-            events.put(type, new ArrayList<>());
+        for (String eventType : listenerTypes(type, listener)) {
+            if (!events.containsKey(eventType)) {
+                events.put(eventType, new ArrayList<>());
+            }
+            events.get(eventType).add(listener);
         }
-        events.get(type).add(listener);
+        dispatchTable.clear();
     }
 
     public void removeTableListener(String type, TableEventListener listener) {
-        if (events.containsKey(type)) {
-            events.get(type).remove(listener);
+        for (String eventType : listenerTypes(type, listener)) {
+            if (events.containsKey(eventType)) {
+                events.get(eventType).remove(listener);
+            }
         }
+        dispatchTable.clear();
+    }
+
+    private Collection<String> listenerTypes(String type, TableEventListener listener) {
+        HandledEventTypes handledEventTypes = ANY.equals(type) ? listener.getHandledEventTypes() : null;
+        return nonNull(handledEventTypes) && handledEventTypes.isDeclaredFor(listener)
+                ? handledEventTypes.getTypes() : Collections.singletonList(type);
     }
 
     public void fireTableEvent(TableEvent tableEvent) {
-        if (events.containsKey(tableEvent.getType())) {
-            events.get(tableEvent.getType()).forEach(listener -> listener.handleEvent(tableEvent));
+        if (coalescedEventTypes.contains(tableEvent.getType())) {
+            coalescedEvents.put(tableEvent.getType(), tableEvent);
+            if (coalescedEventsFrame < 0) {
+                coalescedEventsFrame = DomGlobal.requestAnimationFrame(timestamp -> fireCoalescedEvents());
+            }
+        } else {
+            dispatch(tableEvent);
+        }
+    }
+
+    private void fireCoalescedEvents() {
+        coalescedEventsFrame = -1;
+        List<TableEvent> pendingEvents = new ArrayList<>(coalescedEvents.values());
+        coalescedEvents.clear();
+        pendingEvents.forEach(this::dispatch);
+    }
+
+    private void dispatch(TableEvent tableEvent) {
+        TableEventListener[] listeners = dispatchTable.get(tableEvent.getType());
+        if (isNull(listeners)) {
+            List<TableEventListener> typeListeners = new ArrayList<>();
+            if (events.containsKey(tableEvent.getType())) {
+                typeListeners.addAll(events.get(tableEvent.getType()));
+            }
+            typeListeners.addAll(events.get(ANY));
+            listeners = typeListeners.toArray(new TableEventListener[0]);
+            dispatchTable.put(tableEvent.getType(), listeners);
+        }
+
+        if (isNull(dispatchMetrics)) {
+            for (TableEventListener listener : listeners) {
+                listener.handleEvent(tableEvent);
+            }
+        } else {
+            for (TableEventListener listener : listeners) {
+                double start = DomGlobal.performance.now();
+                listener.handleEvent(tableEvent);
+                double time = DomGlobal.performance.now() - start;
+                if (!dispatchMetrics.containsKey(listener)) {
+                    dispatchMetrics.put(listener, new EventDispatchMetrics(listener));
+                }
+                dispatchMetrics.get(listener).record(time);
+            }
+        }
+    }
+
+    /**
+     * Events of the type fired more than once during the same animation frame are dispatched once in the next frame
+     * with the last fired event, no event type is coalesced unless registered here, e.g
+     * {@link BodyScrollEvent#BODY_SCROLL}.
+     *
+     * @param eventType the type of the events to be coalesced
+     * @return same DataTable instance
+     */
+    public DataTable<T> coalescePerFrame(String eventType) {
+        coalescedEventTypes.add(eventType);
+        return this;
+    }
+
+    public DataTable<T> dispatchImmediately(String eventType) {
+        coalescedEventTypes.remove(eventType);
+        if (coalescedEvents.containsKey(eventType)) {
+            dispatch(coalescedEvents.remove(eventType));
+        }
+        return this;
+    }
+
+    /**
+     * Starts or stops collecting the number of events dispatched to each listener and the time spent handling them,
+     * starting the profiling resets the collected metrics.
+     *
+     * @param profiling boolean
+     * @return same DataTable instance
+     */
+    public DataTable<T> setEventsProfiling(boolean profiling) {
+        this.dispatchMetrics = profiling ? new LinkedHashMap<>() : null;
+        return this;
+    }
+
+    public List<EventDispatchMetrics> getEventDispatchMetrics() {
+        return isNull(dispatchMetrics) ? new ArrayList<>() : new ArrayList<>(dispatchMetrics.values());
+    }
+
+    /**
+     * Registers a listener for the events of the type fired from any of the table rows, one listener per event type is
+     * added to the table body and the row is resolved from the event target, so nothing is attached to the rows.
+     *
+     * @param type     the event type, e.g click
+     * @param listener {@link RowEventListener}
+     * @return same DataTable instance
+     */
+    public DataTable<T> addRowEventListener(String type, RowEventListener<T> listener) {
+        if (!rowEventListeners.containsKey(type)) {
+            rowEventListeners.put(type, new ArrayList<>());
+            tbody.element().addEventListener(type, evt -> onRowEvent(type, evt));
+        }
+        rowEventListeners.get(type).add(listener);
+        return this;
+    }
+
+    public DataTable<T> removeRowEventListener(String type, RowEventListener<T> listener) {
+        if (rowEventListeners.containsKey(type)) {
+            rowEventListeners.get(type).remove(listener);
+        }
+        return this;
+    }
+
+    private void onRowEvent(String type, Event evt) {
+        TableRow<T> tableRow = getRowOf(Js.uncheckedCast(evt.target));
+        if (nonNull(tableRow)) {
+            new ArrayList<>(rowEventListeners.get(type)).forEach(listener -> listener.onRowEvent(evt, tableRow));
         }
+    }
 
-        events.get(ANY).forEach(listener -> listener.handleEvent(tableEvent));
+    /**
+     * @param node a node inside the table body
+     * @return the row containing the node, or null if the node is not inside a record row, e.g a spacer or details row
+     */
+    public TableRow<T> getRowOf(Node node) {
+        HTMLTableSectionElement body = tbody.element();
+        Node current = node;
+        while (nonNull(current) && current != body) {
+            if (current.parentNode == body) {
+                return TableRow.of(current);
+            }
+            current = current.parentNode;
+        }
+        return null;
     }
 
     public SearchContext getSearchContext() {
@@ -369,6 +752,11 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
         void onSelectionChanged(List<TableRow<T>> selectedTableRows, List<T> selectedRecords);
     }
 
+    @FunctionalInterface
+    public interface RowEventListener<T> {
+        void onRowEvent(Event evt, TableRow<T> tableRow);
+    }
+
     public interface LocalRowFilter<T> {
         boolean filter(TableRow<T> tableRow);
     }
@@ -18,4 +18,7 @@ public class DataTableStyles {
     public static final String DETAILS_TD = "details-td";
     public static final String DETAILS_TR = "details-tr";
     public static final String SELECT_CHECKBOX = "select-checkbox";
+    public static final String VIRTUAL_SPACER = "virtual-spacer";
+    public static final String CLICKABLE_ROWS = "clickable-rows";
+    public static final String SCROLL_SENTINEL = "scroll-sentinel";
 }
@@ -0,0 +1,42 @@
+package org.dominokit.domino.ui.datatable;
+
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
+
+/**
+ * The number of events dispatched to a table event listener and the time it spent handling them, collected while the
+ * table events profiling is enabled.
+ */
+public class EventDispatchMetrics {
+
+    private final TableEventListener listener;
+    private int dispatchCount = 0;
+    private double totalTime = 0;
+
+    EventDispatchMetrics(TableEventListener listener) {
+        this.listener = listener;
+    }
+
+    void record(double time) {
+        dispatchCount++;
+        totalTime += time;
+    }
+
+    public TableEventListener getListener() {
+        return listener;
+    }
+
+    public int getDispatchCount() {
+        return dispatchCount;
+    }
+
+    /**
+     * @return the total handling time in milliseconds
+     */
+    public double getTotalTime() {
+        return totalTime;
+    }
+
+    public double getAverageTime() {
+        return dispatchCount == 0 ? 0 : totalTime / dispatchCount;
+    }
+}
@@ -0,0 +1,16 @@
+package org.dominokit.domino.ui.datatable;
+
+/**
+ * Decides if a row reused by the keyed data diff of {@link DataTable} should render its cells again.
+ */
+@FunctionalInterface
+public interface RecordChangeDetector<T> {
+
+    /**
+     * @param oldRecord the record rendered by the row
+     * @param newRecord the record with the same key in the new data, the same instance as oldRecord when the record was
+     *                  changed in place
+     * @return true if the row should render its cells for the new record
+     */
+    boolean isChanged(T oldRecord, T newRecord);
+}
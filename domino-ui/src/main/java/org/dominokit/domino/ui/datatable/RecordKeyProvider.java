@@ -0,0 +1,6 @@
+package org.dominokit.domino.ui.datatable;
+
+@FunctionalInterface
+public interface RecordKeyProvider<T> {
+    Object getRecordKey(T record);
+}
@@ -1,10 +1,7 @@
 package org.dominokit.domino.ui.datatable;
 
-import elemental2.dom.HTMLTableCellElement;
-import org.dominokit.domino.ui.style.Style;
 import org.dominokit.domino.ui.utils.ElementUtil;
 import org.dominokit.domino.ui.utils.TextNode;
-import org.jboss.elemento.IsElement;
 
 import static java.util.Objects.nonNull;
 
@@ -13,6 +10,7 @@ public class RowCell<T> {
     private final ColumnConfig<T> columnConfig;
     private final CellRenderer.CellInfo<T> cellInfo;
     private CellRenderer<T> defaultCellRenderer=  cell -> TextNode.of("");
+    private CellRenderer<T> renderedBy;
 
     public RowCell(CellRenderer.CellInfo<T> cellInfo, ColumnConfig<T> columnConfig) {
         this.columnConfig = columnConfig;
@@ -24,35 +22,17 @@ public class RowCell<T> {
     }
 
     public void updateCell() {
-        ElementUtil.clear(cellInfo.getElement());
-        Style<HTMLTableCellElement, IsElement<HTMLTableCellElement>> style = Style.of(cellInfo.getElement());
-        if (nonNull(columnConfig.getMinWidth())) {
-            style.setMinWidth(columnConfig.getMinWidth());
-            columnConfig.getHeadElement().style().setMinWidth(columnConfig.getMinWidth());
+        CellRenderer<T> cellRenderer;
+        if (cellInfo.getTableRow().isEditable()) {
+            cellRenderer = nonNull(columnConfig.getEditableCellRenderer()) ? columnConfig.getEditableCellRenderer() : defaultCellRenderer;
+        } else {
+            cellRenderer = nonNull(columnConfig.getCellRenderer()) ? columnConfig.getCellRenderer() : defaultCellRenderer;
         }
 
-        if (nonNull(columnConfig.getMaxWidth())) {
-            style.setMaxWidth(columnConfig.getMaxWidth());
-            columnConfig.getHeadElement().style().setMaxWidth(columnConfig.getMaxWidth());
-        }
-
-        if (nonNull(columnConfig.getTextAlign())) {
-            style.setTextAlign(columnConfig.getTextAlign());
-            columnConfig.getHeadElement().style().setTextAlign(columnConfig.getTextAlign());
-        }
-
-        if(cellInfo.getTableRow().isEditable()){
-            if(nonNull(columnConfig.getEditableCellRenderer())) {
-                cellInfo.getElement().appendChild(columnConfig.getEditableCellRenderer().asElement(cellInfo));
-            }else{
-                cellInfo.getElement().appendChild(defaultCellRenderer.asElement(cellInfo));
-            }
-        }else {
-            if(nonNull(columnConfig.getCellRenderer())) {
-                cellInfo.getElement().appendChild(columnConfig.getCellRenderer().asElement(cellInfo));
-            }else{
-                cellInfo.getElement().appendChild(defaultCellRenderer.asElement(cellInfo));
-            }
+        if (cellRenderer != renderedBy || !cellRenderer.updateElement(cellInfo)) {
+            ElementUtil.clear(cellInfo.getElement());
+            cellInfo.getElement().appendChild(cellRenderer.asElement(cellInfo));
+            renderedBy = cellRenderer;
         }
     }
 
@@ -2,4 +2,32 @@ package org.dominokit.domino.ui.datatable;
 
 public interface SelectionCondition<T> {
     boolean isAllowSelection(DataTable<T> table, TableRow<T> tableRow);
-}
\ No newline at end of file
+
+    /**
+     * Checks the condition for a record that has no rendered row, e.g a record outside the virtual scroll window
+     * selected with a range or select all, the selection of such records is allowed by default, use
+     * {@link #forRecords(RecordSelectionCondition)} for a condition that applies to both.
+     */
+    default boolean isAllowSelection(DataTable<T> table, T record) {
+        return true;
+    }
+
+    static <T> SelectionCondition<T> forRecords(RecordSelectionCondition<T> recordSelectionCondition) {
+        return new SelectionCondition<T>() {
+            @Override
+            public boolean isAllowSelection(DataTable<T> table, TableRow<T> tableRow) {
+                return recordSelectionCondition.isAllowSelection(table, tableRow.getRecord());
+            }
+
+            @Override
+            public boolean isAllowSelection(DataTable<T> table, T record) {
+                return recordSelectionCondition.isAllowSelection(table, record);
+            }
+        };
+    }
+
+    @FunctionalInterface
+    interface RecordSelectionCondition<T> {
+        boolean isAllowSelection(DataTable<T> table, T record);
+    }
+}
@@ -0,0 +1,221 @@
+package org.dominokit.domino.ui.datatable;
+
+import java.util.*;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Keeps the selected records of a {@link DataTable} keyed by the {@link RecordKeyProvider} key of the record, or by
+ * the record itself when the table has no key provider, so the selection survives paging and data reloads, and the
+ * selected rows and records are available without scanning the table rows.
+ * <p>
+ * The bulk operations update all the records first and notify the table selection listeners once.
+ */
+public class SelectionModel<T> {
+
+    private final DataTable<T> dataTable;
+    private final Map<Object, T> selectedRecords = new LinkedHashMap<>();
+    private final Set<TableRow<T>> selectedRows = new LinkedHashSet<>();
+
+    SelectionModel(DataTable<T> dataTable) {
+        this.dataTable = dataTable;
+    }
+
+    public boolean isSelected(T record) {
+        return selectedRecords.containsKey(keyOf(record));
+    }
+
+    public int getSelectedCount() {
+        return selectedRecords.size();
+    }
+
+    /**
+     * @return the selected records, including the records that are not rendered, in the order they were selected
+     */
+    public List<T> getSelectedRecords() {
+        return new ArrayList<>(selectedRecords.values());
+    }
+
+    /**
+     * @return the rendered rows of the selected records ordered by the row index
+     */
+    public List<TableRow<T>> getSelectedRows() {
+        List<TableRow<T>> rows = new ArrayList<>(selectedRows);
+        rows.sort(Comparator.comparingInt(TableRow::getIndex));
+        return rows;
+    }
+
+    public void select(Collection<T> records) {
+        updateRecords(records, true);
+    }
+
+    public void deselect(Collection<T> records) {
+        updateRecords(records, false);
+    }
+
+    /**
+     * Selects the records between the two indexes of the table data, both inclusive, the condition is checked for the
+     * records that are not rendered too, with {@link SelectionCondition#isAllowSelection(DataTable, Object)}.
+     */
+    public void selectRange(int fromIndex, int toIndex, SelectionCondition<T> selectionCondition) {
+        updateRange(fromIndex, toIndex, selectionCondition, true);
+    }
+
+    public void deselectRange(int fromIndex, int toIndex, SelectionCondition<T> selectionCondition) {
+        updateRange(fromIndex, toIndex, selectionCondition, false);
+    }
+
+    /**
+     * Deselects all the records, including the records that are not rendered.
+     */
+    public void clear() {
+        if (selectedRecords.isEmpty()) {
+            return;
+        }
+        new ArrayList<>(selectedRows).forEach(TableRow::deselect);
+        selectedRecords.clear();
+        fireSelectionChange();
+    }
+
+    void selectAll(SelectionCondition<T> selectionCondition) {
+        updateRange(0, dataTable.getData().size() - 1, selectionCondition, true);
+    }
+
+    void deselectAll(SelectionCondition<T> selectionCondition) {
+        boolean changed = false;
+        for (TableRow<T> tableRow : new ArrayList<>(selectedRows)) {
+            if (selectionCondition.isAllowSelection(dataTable, tableRow)) {
+                tableRow.deselect();
+                changed = true;
+            }
+        }
+        Set<Object> renderedKeys = new HashSet<>();
+        selectedRows.forEach(tableRow -> renderedKeys.add(keyOf(tableRow.getRecord())));
+        Iterator<Map.Entry<Object, T>> iterator = selectedRecords.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Object, T> entry = iterator.next();
+            if (!renderedKeys.contains(entry.getKey()) && selectionCondition.isAllowSelection(dataTable, entry.getValue())) {
+                iterator.remove();
+                changed = true;
+            }
+        }
+        if (changed) {
+            fireSelectionChange();
+        }
+    }
+
+    private void updateRecords(Collection<T> records, boolean select) {
+        Map<Object, T> keys = new HashMap<>();
+        records.forEach(record -> keys.put(keyOf(record), record));
+        boolean changed = false;
+        for (TableRow<T> tableRow : dataTable.getItems()) {
+            if (tableRow.isSelected() != select && keys.containsKey(keyOf(tableRow.getRecord()))) {
+                if (select) {
+                    tableRow.select();
+                } else {
+                    tableRow.deselect();
+                }
+                changed = true;
+            }
+        }
+        for (Map.Entry<Object, T> entry : keys.entrySet()) {
+            if (select && !selectedRecords.containsKey(entry.getKey())) {
+                selectedRecords.put(entry.getKey(), entry.getValue());
+                changed = true;
+            } else if (!select && nonNull(selectedRecords.remove(entry.getKey()))) {
+                changed = true;
+            }
+        }
+        if (changed) {
+            fireSelectionChange();
+        }
+    }
+
+    private void updateRange(int fromIndex, int toIndex, SelectionCondition<T> selectionCondition, boolean select) {
+        List<T> data = (List<T>) dataTable.getData();
+        if (isNull(data) || data.isEmpty()) {
+            return;
+        }
+        int from = Math.max(0, Math.min(fromIndex, toIndex));
+        int to = Math.min(data.size() - 1, Math.max(fromIndex, toIndex));
+        boolean changed = false;
+        for (int index = from; index <= to; index++) {
+            TableRow<T> tableRow = dataTable.getRenderedRow(index);
+            if (nonNull(tableRow)) {
+                if (tableRow.isSelected() != select && selectionCondition.isAllowSelection(dataTable, tableRow)) {
+                    if (select) {
+                        tableRow.select();
+                    } else {
+                        tableRow.deselect();
+                    }
+                    changed = changed || tableRow.isSelected() == select;
+                }
+            } else {
+                T record = data.get(index);
+                Object key = keyOf(record);
+                if (select != selectedRecords.containsKey(key) && selectionCondition.isAllowSelection(dataTable, record)) {
+                    if (select) {
+                        selectedRecords.put(key, record);
+                    } else {
+                        selectedRecords.remove(key);
+                    }
+                    changed = true;
+                }
+            }
+        }
+        if (changed) {
+            fireSelectionChange();
+        }
+    }
+
+    private void fireSelectionChange() {
+        List<TableRow<T>> rows = getSelectedRows();
+        dataTable.onSelectionChange(rows.isEmpty() ? null : rows.get(0));
+    }
+
+    void onRowSelectedStateChanged(TableRow<T> tableRow) {
+        Object key = keyOf(tableRow.getRecord());
+        if (tableRow.isSelected()) {
+            if (!dataTable.getTableConfig().isMultiSelect()) {
+                deselectOthers(tableRow, key);
+            }
+            selectedRows.add(tableRow);
+            selectedRecords.put(key, tableRow.getRecord());
+        } else {
+            selectedRows.remove(tableRow);
+            selectedRecords.remove(key);
+        }
+    }
+
+    private void deselectOthers(TableRow<T> tableRow, Object key) {
+        for (TableRow<T> selectedRow : new ArrayList<>(selectedRows)) {
+            if (selectedRow != tableRow) {
+                selectedRow.deselect();
+            }
+        }
+        selectedRecords.keySet().removeIf(selectedKey -> !Objects.equals(selectedKey, key));
+    }
+
+    /**
+     * Marks the row as selected if its record is selected, called for the rows rendered for a record.
+     */
+    void restoreSelection(TableRow<T> tableRow) {
+        if (isSelected(tableRow.getRecord())) {
+            tableRow.select(true);
+        }
+    }
+
+    void onRowRemoved(TableRow<T> tableRow) {
+        selectedRows.remove(tableRow);
+    }
+
+    void onRowsRemoved() {
+        selectedRows.clear();
+    }
+
+    private Object keyOf(T record) {
+        RecordKeyProvider<T> keyProvider = dataTable.getTableConfig().getRecordKeyProvider();
+        return nonNull(keyProvider) ? keyProvider.getRecordKey(record) : record;
+    }
+}
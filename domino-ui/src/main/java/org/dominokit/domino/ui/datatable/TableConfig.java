@@ -3,16 +3,17 @@ package org.dominokit.domino.ui.datatable;
 import elemental2.dom.*;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 import org.dominokit.domino.ui.popover.Tooltip;
-import org.dominokit.domino.ui.style.Style;
 import org.dominokit.domino.ui.utils.DominoElement;
 import org.dominokit.domino.ui.utils.HasMultiSelectionSupport;
 import org.jboss.elemento.HtmlContentBuilder;
 
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.jboss.elemento.Elements.*;
 
@@ -26,7 +27,17 @@ public class TableConfig<T> implements HasMultiSelectionSupport {
     private String fixedBodyHeight = "400px";
     private boolean lazyLoad = true;
     private boolean multiSelect = true;
-    private RowAppender<T> rowAppender = (dataTable, tableRow) -> dataTable.bodyElement().appendChild(tableRow.element());
+    private boolean virtualScroll = false;
+    private int virtualRowHeight = 40;
+    private int virtualOverscan = 10;
+    private boolean chunkedRendering = false;
+    private double renderingFrameBudget = 8;
+    private final RowAppender<T> defaultRowAppender = new DefaultRowAppender<>();
+    private RowAppender<T> rowAppender = defaultRowAppender;
+    private boolean appending = false;
+    private final List<TableRow<T>> appendedRows = new ArrayList<>();
+    private RecordKeyProvider<T> recordKeyProvider;
+    private RecordChangeDetector<T> recordChangeDetector = (oldRecord, newRecord) -> oldRecord != newRecord;
     private DirtyRecordProvider<T> dirtyRecordProvider= original -> original;
     private SaveDirtyRecordHandler<T> saveDirtyRecordHandler = (originalRecord, dirtyRecord) -> {};
 
@@ -36,6 +47,7 @@ public class TableConfig<T> implements HasMultiSelectionSupport {
         thead.appendChild(tr.element());
 
         columns.forEach(columnConfig -> {
+            dataTable.getColumnsStyleSheet().addColumn(columnConfig);
             //TODO replace with FlexLayout
             Node element = columnConfig.getHeaderElement().asElement(columnConfig.getTitle());
             columnConfig.contextMenu = div().style("width: 15px; display: none;").element();
@@ -45,22 +57,20 @@ public class TableConfig<T> implements HasMultiSelectionSupport {
                             .style("width:100%")
                             .add(element))
                     .add(columnConfig.contextMenu);
-            HtmlContentBuilder<HTMLTableCellElement> th = th().css(DataTableStyles.TABLE_CM_HEADER).add(headerContent.element());
+            HtmlContentBuilder<HTMLTableCellElement> th = th().css(DataTableStyles.TABLE_CM_HEADER, columnConfig.getColumnCssClass()).add(headerContent.element());
 
             columnConfig.applyScreenMedia(th.element());
 
             tr.add(th);
             columnConfig.setHeadElement(th.element());
             if (dataTable.getTableConfig().isFixed() || columnConfig.isFixed()) {
-                fixElementWidth(columnConfig, th.element());
+                th.css(DataTableStyles.FIXED_WIDTH);
             }
 
             if (columnConfig.isShowTooltip()) {
                 Tooltip.create(th.element(), columnConfig.getTooltipNode());
             }
             columnConfig.applyHeaderStyle();
-            columnConfig.addShowHideListener(DefaultColumnShowHideListener.of(th.element(), true));
-            DominoElement.of(th).toggleDisplay(!columnConfig.isHidden());
 
             plugins.forEach(plugin -> plugin.onHeaderAdded(dataTable, columnConfig));
         });
@@ -68,44 +78,38 @@ public class TableConfig<T> implements HasMultiSelectionSupport {
         dataTable.tableElement().appendChild(thead);
     }
 
-    private void fixElementWidth(ColumnConfig<T> column, HTMLElement element) {
-        String fixedWidth = bestFitWidth(column);
-        Style.of(element)
-                .setWidth(fixedWidth)
-                .setMinWidth(fixedWidth)
-                .setMaxWidth(fixedWidth)
-                .add(DataTableStyles.FIXED_WIDTH);
+    public void drawRecord(DataTable<T> dataTable, TableRow<T> tableRow) {
+        if (rowAppender.isDeferRowRendering()) {
+            rowAppender.appendRow(dataTable, tableRow);
+        } else {
+            drawCells(dataTable, tableRow);
+            rowAppender.appendRow(dataTable, tableRow);
+            if (appending) {
+                appendedRows.add(tableRow);
+            } else {
+                plugins.forEach(plugin -> plugin.onRowAdded(dataTable, tableRow));
+            }
+        }
+    }
 
+    void renderRow(DataTable<T> dataTable, TableRow<T> tableRow) {
+        drawCells(dataTable, tableRow);
+        plugins.forEach(plugin -> plugin.onRowAdded(dataTable, tableRow));
     }
 
-    public void drawRecord(DataTable<T> dataTable, TableRow<T> tableRow) {
+    private void drawCells(DataTable<T> dataTable, TableRow<T> tableRow) {
+        tableRow.setRendered(true);
         columns.forEach(columnConfig -> {
 
-            HTMLTableCellElement cellElement;
-            if (columnConfig.isHeader()) {
-                cellElement = th().css("dt-th-cell").element();
-            } else {
-                cellElement = td().css("dt-td-cell").element();
-            }
-
-            if (dataTable.getTableConfig().isFixed() || columnConfig.isFixed()) {
-                fixElementWidth(columnConfig, cellElement);
-            }
+            HTMLTableCellElement cellElement = columnConfig.createCellElement(fixed);
 
             RowCell<T> rowCell = new RowCell<>(new CellRenderer.CellInfo<>(tableRow, cellElement), columnConfig);
             rowCell.updateCell();
             tableRow.addCell(rowCell);
 
-            columnConfig.applyScreenMedia(cellElement);
-
             tableRow.element().appendChild(cellElement);
             columnConfig.applyCellStyle(cellElement);
-            columnConfig.addShowHideListener(DefaultColumnShowHideListener.of(cellElement));
-            DominoElement.of(cellElement).toggleDisplay(!columnConfig.isHidden());
         });
-        rowAppender.appendRow(dataTable, tableRow);
-
-        plugins.forEach(plugin -> plugin.onRowAdded(dataTable, tableRow));
     }
 
 
@@ -165,6 +169,79 @@ public class TableConfig<T> implements HasMultiSelectionSupport {
         return this;
     }
 
+    public boolean isVirtualScroll() {
+        return virtualScroll;
+    }
+
+    /**
+     * When enabled with a fixed table, only the rows visible in the table body plus {@link #getVirtualOverscan()} rows
+     * above and below it will be rendered, rows are recycled while scrolling.
+     *
+     * @param virtualScroll boolean
+     * @return same TableConfig instance
+     */
+    public TableConfig<T> setVirtualScroll(boolean virtualScroll) {
+        this.virtualScroll = virtualScroll;
+        return this;
+    }
+
+    public int getVirtualRowHeight() {
+        return virtualRowHeight;
+    }
+
+    /**
+     * @param virtualRowHeight the estimated row height in pixels used before the first rendered row is measured
+     * @return same TableConfig instance
+     */
+    public TableConfig<T> setVirtualRowHeight(int virtualRowHeight) {
+        if (virtualRowHeight > 0) {
+            this.virtualRowHeight = virtualRowHeight;
+        }
+        return this;
+    }
+
+    public int getVirtualOverscan() {
+        return virtualOverscan;
+    }
+
+    public TableConfig<T> setVirtualOverscan(int virtualOverscan) {
+        this.virtualOverscan = Math.max(1, virtualOverscan);
+        return this;
+    }
+
+    public boolean isChunkedRendering() {
+        return chunkedRendering;
+    }
+
+    /**
+     * When enabled the rows are rendered in chunks, one chunk per animation frame, each chunk takes at most
+     * {@link #getRenderingFrameBudget()} milliseconds so the page stays responsive while a large data set is rendered,
+     * {@link DataTablePlugin#onAllRowsAdded(DataTable)} and the data updated event are fired once all the rows are rendered.
+     *
+     * @param chunkedRendering boolean
+     * @return same TableConfig instance
+     */
+    public TableConfig<T> setChunkedRendering(boolean chunkedRendering) {
+        this.chunkedRendering = chunkedRendering;
+        return this;
+    }
+
+    public double getRenderingFrameBudget() {
+        return renderingFrameBudget;
+    }
+
+    /**
+     * @param renderingFrameBudget the time in milliseconds spent rendering rows in each frame when the chunked rendering
+     *                             is enabled, defaults to 8
+     * @return same TableConfig instance
+     */
+    public TableConfig<T> setRenderingFrameBudget(double renderingFrameBudget) {
+        if (renderingFrameBudget > 0) {
+            this.renderingFrameBudget = renderingFrameBudget;
+        }
+        return this;
+    }
+
     String bestFitWidth(ColumnConfig<T> columnConfig) {
         if (nonNull(columnConfig.getWidth()) && !columnConfig.getWidth().isEmpty()) {
             return columnConfig.getWidth();
@@ -193,6 +270,66 @@ public class TableConfig<T> implements HasMultiSelectionSupport {
         }
     }
 
+    boolean isDefaultRowAppender() {
+        return rowAppender == defaultRowAppender;
+    }
+
+    void beginAppend(DataTable<T> dataTable) {
+        appending = true;
+        rowAppender.beginAppend(dataTable);
+    }
+
+    /**
+     * Ends the append batch, the plugins are notified of the rows added during the batch only after the appender has
+     * inserted them into the table body.
+     */
+    void endAppend(DataTable<T> dataTable) {
+        appending = false;
+        rowAppender.endAppend(dataTable);
+        if (!appendedRows.isEmpty()) {
+            List<TableRow<T>> rows = new ArrayList<>(appendedRows);
+            appendedRows.clear();
+            rows.forEach(tableRow -> plugins.forEach(plugin -> plugin.onRowAdded(dataTable, tableRow)));
+        }
+    }
+
+    public RecordKeyProvider<T> getRecordKeyProvider() {
+        return recordKeyProvider;
+    }
+
+    /**
+     * Sets a function that identifies a record, when set the table will reuse the rows of records that exists in both
+     * the old and new data instead of recreating all rows, the reused rows are moved to the new order and only the rows
+     * whose record changed, see {@link #setRecordChangeDetector(RecordChangeDetector)}, are updated, the table falls back to recreating all the rows when the keys of the current
+     * rows are not unique or when the table body has other rows, e.g an expanded record details row.
+     *
+     * @param recordKeyProvider {@link RecordKeyProvider}
+     * @return same TableConfig instance
+     */
+    public TableConfig<T> setRecordKeyProvider(RecordKeyProvider<T> recordKeyProvider) {
+        this.recordKeyProvider = recordKeyProvider;
+        return this;
+    }
+
+    public RecordChangeDetector<T> getRecordChangeDetector() {
+        return recordChangeDetector;
+    }
+
+    /**
+     * Sets how the keyed data diff decides that a reused row should be updated, by default a row is updated only when its
+     * new record is a different instance, set a detector that compares the record values or versions when records are
+     * changed in place and passed again to the table.
+     *
+     * @param recordChangeDetector {@link RecordChangeDetector}
+     * @return same TableConfig instance
+     */
+    public TableConfig<T> setRecordChangeDetector(RecordChangeDetector<T> recordChangeDetector) {
+        if (nonNull(recordChangeDetector)) {
+            this.recordChangeDetector = recordChangeDetector;
+        }
+        return this;
+    }
+
     public List<DataTablePlugin<T>> getPlugins() {
         return plugins;
     }
@@ -247,6 +384,62 @@ public class TableConfig<T> implements HasMultiSelectionSupport {
     @FunctionalInterface
     public interface RowAppender<T> {
         void appendRow(DataTable<T> dataTable, TableRow<T> tableRow);
+
+        /**
+         * @return true to append the rows without rendering their cells, the appender then calls {@link TableRow#render()}
+         * when a row is shown
+         */
+        default boolean isDeferRowRendering() {
+            return false;
+        }
+
+        /**
+         * Called before a batch of rows is appended, an appender can collect the rows of the batch in a
+         * {@link DocumentFragment} and insert them once in {@link #endAppend(DataTable)}.
+         */
+        default void beginAppend(DataTable<T> dataTable) {
+        }
+
+        /**
+         * Called after all the rows of a batch are appended, the rows must be in the table body when it returns since the
+         * plugins are notified that the rows are added right after it.
+         */
+        default void endAppend(DataTable<T> dataTable) {
+        }
+    }
+
+    /**
+     * Appends the rows to the end of the table body, the rows of a batch are collected in a fragment and inserted with
+     * a single DOM mutation.
+     */
+    private static class DefaultRowAppender<T> implements RowAppender<T> {
+
+        private DocumentFragment fragment;
+
+        @Override
+        public void beginAppend(DataTable<T> dataTable) {
+            if (isNull(fragment)) {
+                fragment = DomGlobal.document.createDocumentFragment();
+            }
+        }
+
+        @Override
+        public void appendRow(DataTable<T> dataTable, TableRow<T> tableRow) {
+            if (nonNull(fragment)) {
+                fragment.appendChild(tableRow.element());
+            } else {
+                dataTable.bodyElement().appendChild(tableRow.element());
+            }
+        }
+
+        @Override
+        public void endAppend(DataTable<T> dataTable) {
+            if (nonNull(fragment)) {
+                DocumentFragment rows = fragment;
+                fragment = null;
+                dataTable.bodyElement().appendChild(rows);
+            }
+        }
     }
 
     public static class ColumnNofFoundException extends RuntimeException {
@@ -2,8 +2,8 @@ package org.dominokit.domino.ui.datatable;
 
 import elemental2.dom.DomGlobal;
 import elemental2.dom.HTMLTableRowElement;
-import org.dominokit.domino.ui.datatable.events.RowRecordUpdatedEvent;
-import org.dominokit.domino.ui.datatable.events.TableDataUpdatedEvent;
+import elemental2.dom.Node;
+import jsinterop.base.Js;
 import org.dominokit.domino.ui.datatable.store.DataChangedEvent;
 import org.dominokit.domino.ui.forms.validations.ValidationResult;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
@@ -14,9 +14,11 @@ import java.util.*;
 import static org.jboss.elemento.Elements.tr;
 
 public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow<T>> implements Selectable<T> {
+    private static final String TABLE_ROW_PROPERTY = "dominoTableRow";
+
     private T record;
     private boolean selected = false;
-    private final int index;
+    private int index;
     private DataTable<T> dataTable;
     private final Map<String, RowCell<T>> rowCells = new HashMap<>();
 
@@ -28,14 +30,20 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
 
     private List<RowListener<T>> listeners = new ArrayList<>();
     private boolean editable = false;
+    private boolean rendered = false;
 
     public TableRow(T record, int index, DataTable<T> dataTable) {
         this.record = record;
         this.index = index;
         this.dataTable = dataTable;
+        Js.asPropertyMap(element).set(TABLE_ROW_PROPERTY, this);
         init(this);
     }
 
+    static <T> TableRow<T> of(Node node) {
+        return Js.uncheckedCast(Js.asPropertyMap(node).get(TABLE_ROW_PROPERTY));
+    }
+
     public void setRecord(T record) {
         this.record = record;
     }
@@ -52,7 +60,7 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
     @Override
     public T select() {
         if (!hasFalg(DataTable.DATA_TABLE_ROW_FILTERED)) {
-            this.selected = true;
+            setSelected(true);
             selectionHandlers.forEach(selectionHandler -> selectionHandler.onSelectionChanged(TableRow.this));
         }
         return record;
@@ -60,23 +68,28 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
 
     @Override
     public T deselect() {
-        this.selected = false;
+        setSelected(false);
         selectionHandlers.forEach(selectionHandler -> selectionHandler.onSelectionChanged(TableRow.this));
         return record;
     }
 
     @Override
     public T select(boolean silent) {
-        this.selected = true;
+        setSelected(true);
         return record;
     }
 
     @Override
     public T deselect(boolean silent) {
-        this.selected = false;
+        setSelected(false);
         return record;
     }
 
+    private void setSelected(boolean selected) {
+        this.selected = selected;
+        dataTable.onRowSelectedStateChanged(this);
+    }
+
     @Override
     public boolean isSelected() {
         return selected;
@@ -92,6 +105,10 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
         this.selectionHandlers.add(selectionHandler);
     }
 
+    public void removeSelectionHandler(SelectionHandler<T> selectionHandler) {
+        this.selectionHandlers.remove(selectionHandler);
+    }
+
     public void addRowListener(RowListener<T> listener) {
         listeners.add(listener);
     }
@@ -145,6 +162,57 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
         return index;
     }
 
+    void setIndex(int index) {
+        this.index = index;
+    }
+
+    /**
+     * Renders the cells of a row appended without them by a {@link TableConfig.RowAppender} that defers the rows rendering,
+     * does nothing if the row is already rendered.
+     *
+     * @return same row instance
+     */
+    public TableRow<T> render() {
+        if (!rendered) {
+            dataTable.getTableConfig().renderRow(dataTable, this);
+        }
+        return this;
+    }
+
+    public boolean isRendered() {
+        return rendered;
+    }
+
+    void setRendered(boolean rendered) {
+        this.rendered = rendered;
+    }
+
+    void renderCells() {
+        rowCells.values().forEach(RowCell::updateCell);
+    }
+
+    /**
+     * Reuses this row for a different record, used by the virtual scrolling mode to recycle rows instead of creating
+     * new ones, the state of the previous record is cleared, its selection handlers are told the row is no longer
+     * selected so they can remove their styles, then the cells are re-rendered and the selection state is restored
+     * from the table.
+     */
+    void rebind(T record, int index) {
+        if (selected) {
+            this.selected = false;
+            selectionHandlers.forEach(selectionHandler -> selectionHandler.onSelectionChanged(TableRow.this));
+        }
+        style().remove(DataTableStyles.TABLE_ROW_FILTERED);
+        this.record = record;
+        this.index = index;
+        this.editable = false;
+        this.flags.clear();
+        this.metaObjects.clear();
+        this.selectionHandlers.clear();
+        dataTable.getSelectionModel().restoreSelection(this);
+        renderCells();
+    }
+
     public void updateRow() {
         updateRow(this.record);
     }
@@ -152,8 +220,7 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
     public void updateRow(T record) {
         this.record = record;
         rowCells.values().forEach(RowCell::updateCell);
-        this.dataTable.fireTableEvent(new RowRecordUpdatedEvent<>(this));
-        this.dataTable.fireTableEvent(new TableDataUpdatedEvent<>(new ArrayList<>(dataTable.getData()), dataTable.getData().size()));
+        this.dataTable.onRowUpdated(this);
     }
 
     public ValidationResult validate() {
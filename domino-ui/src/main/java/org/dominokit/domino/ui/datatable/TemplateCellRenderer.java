@@ -0,0 +1,162 @@
+package org.dominokit.domino.ui.datatable;
+
+import elemental2.dom.Element;
+import elemental2.dom.Node;
+import elemental2.dom.NodeList;
+import jsinterop.base.Js;
+import org.jboss.elemento.IsElement;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * A {@link CellRenderer} that builds the cell content once as a template, each cell gets a deep clone of the template
+ * and only the record data is bound to it, when the row is updated for another record the existing clone is bound
+ * again instead of being rebuilt.
+ * <p>
+ * The elements of the template marked with a {@value #BIND_ATTRIBUTE} attribute are located once in the template and
+ * are available by name to the binder for each clone, the template should be a single element.
+ * <pre>
+ * TemplateCellRenderer.create(
+ *         () -&gt; div().add(span().attr("data-bind", "name")).add(small().attr("data-bind", "email")),
+ *         (cellInfo, bindings) -&gt; bindings
+ *                 .setText("name", cellInfo.getRecord().getName())
+ *                 .setText("email", cellInfo.getRecord().getEmail()))
+ * </pre>
+ */
+public class TemplateCellRenderer<T> implements CellRenderer<T> {
+
+    public static final String BIND_ATTRIBUTE = "data-bind";
+    private static final String BINDINGS_KEY = "dominoCellBindings";
+
+    private final Supplier<? extends IsElement<?>> templateSupplier;
+    private final TemplateBinder<T> binder;
+    private Element template;
+    private Map<String, int[]> bindingPaths;
+
+    public static <T> TemplateCellRenderer<T> create(Supplier<? extends IsElement<?>> templateSupplier, TemplateBinder<T> binder) {
+        return new TemplateCellRenderer<>(templateSupplier, binder);
+    }
+
+    public TemplateCellRenderer(Supplier<? extends IsElement<?>> templateSupplier, TemplateBinder<T> binder) {
+        this.templateSupplier = templateSupplier;
+        this.binder = binder;
+    }
+
+    @Override
+    public Node asElement(CellInfo<T> cellInfo) {
+        if (isNull(template)) {
+            template = templateSupplier.get().element();
+            bindingPaths = new HashMap<>();
+            collectBindings(template, new ArrayList<>());
+        }
+        Element content = Js.uncheckedCast(template.cloneNode(true));
+        Bindings bindings = new Bindings(this, content);
+        bindingPaths.forEach((name, path) -> bindings.nodes.put(name, resolve(content, path)));
+        Js.asPropertyMap(cellInfo.getElement()).set(BINDINGS_KEY, bindings);
+        binder.bind(cellInfo, bindings);
+        return content;
+    }
+
+    @Override
+    public boolean updateElement(CellInfo<T> cellInfo) {
+        Bindings bindings = Js.uncheckedCast(Js.asPropertyMap(cellInfo.getElement()).get(BINDINGS_KEY));
+        if (nonNull(bindings) && bindings.renderer == this && bindings.content.parentNode == cellInfo.getElement()) {
+            binder.bind(cellInfo, bindings);
+            return true;
+        }
+        return false;
+    }
+
+    private void collectBindings(Element element, List<Integer> path) {
+        if (element.hasAttribute(BIND_ATTRIBUTE)) {
+            int[] indexes = new int[path.size()];
+            for (int i = 0; i < indexes.length; i++) {
+                indexes[i] = path.get(i);
+            }
+            bindingPaths.put(element.getAttribute(BIND_ATTRIBUTE), indexes);
+        }
+        NodeList<Node> childNodes = element.childNodes;
+        for (int i = 0; i < childNodes.length; i++) {
+            Node child = childNodes.item(i);
+            if (child.nodeType == Node.ELEMENT_NODE) {
+                path.add(i);
+                collectBindings(Js.uncheckedCast(child), path);
+                path.remove(path.size() - 1);
+            }
+        }
+    }
+
+    private static Element resolve(Element content, int[] path) {
+        Node node = content;
+        for (int index : path) {
+            node = node.childNodes.item(index);
+        }
+        return Js.uncheckedCast(node);
+    }
+
+    /**
+     * The elements of a template clone marked with the {@value #BIND_ATTRIBUTE} attribute.
+     */
+    public static class Bindings {
+        private final TemplateCellRenderer<?> renderer;
+        private final Element content;
+        private final Map<String, Element> nodes = new HashMap<>();
+
+        private Bindings(TemplateCellRenderer<?> renderer, Element content) {
+            this.renderer = renderer;
+            this.content = content;
+        }
+
+        public Element getContent() {
+            return content;
+        }
+
+        public <E extends Element> E get(String name) {
+            return Js.uncheckedCast(nodes.get(name));
+        }
+
+        public Bindings setText(String name, String text) {
+            Element element = nodes.get(name);
+            if (nonNull(element)) {
+                element.textContent = isNull(text) ? "" : text;
+            }
+            return this;
+        }
+
+        public Bindings setAttribute(String name, String attribute, String value) {
+            Element element = nodes.get(name);
+            if (nonNull(element)) {
+                if (isNull(value)) {
+                    element.removeAttribute(attribute);
+                } else {
+                    element.setAttribute(attribute, value);
+                }
+            }
+            return this;
+        }
+
+        public Bindings toggleCss(String name, String cssClass, boolean add) {
+            Element element = nodes.get(name);
+            if (nonNull(element)) {
+                if (add) {
+                    element.classList.add(cssClass);
+                } else {
+                    element.classList.remove(cssClass);
+                }
+            }
+            return this;
+        }
+    }
+
+    @FunctionalInterface
+    public interface TemplateBinder<T> {
+        void bind(CellInfo<T> cellInfo, Bindings bindings);
+    }
+}
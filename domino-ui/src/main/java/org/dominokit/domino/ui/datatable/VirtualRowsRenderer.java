@@ -0,0 +1,186 @@
+package org.dominokit.domino.ui.datatable;
+
+import elemental2.dom.DomGlobal;
+import elemental2.dom.HTMLTableCellElement;
+import elemental2.dom.HTMLTableRowElement;
+import elemental2.dom.HTMLTableSectionElement;
+import elemental2.dom.Node;
+
+import java.util.*;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.jboss.elemento.Elements.td;
+import static org.jboss.elemento.Elements.tr;
+
+/**
+ * Renders only the rows that intersects the fixed table body viewport plus an overscan, rows that leave the viewport
+ * are recycled for the records entering it, and two spacer rows keeps the body scroll height equal to the height
+ * of all the records.
+ */
+class VirtualRowsRenderer<T> {
+
+    private final DataTable<T> dataTable;
+    private final HTMLTableRowElement topSpacer;
+    private final HTMLTableCellElement topSpacerCell;
+    private final HTMLTableRowElement bottomSpacer;
+    private final HTMLTableCellElement bottomSpacerCell;
+
+    private List<T> data = new ArrayList<>();
+    private final Map<Integer, TableRow<T>> renderedRows = new HashMap<>();
+    private final Deque<TableRow<T>> pool = new ArrayDeque<>();
+
+    private double rowHeight;
+    private boolean rowHeightMeasured = false;
+    private int firstIndex = 0;
+    private int lastIndex = 0;
+    private double pendingFrame = -1;
+
+    VirtualRowsRenderer(DataTable<T> dataTable) {
+        this.dataTable = dataTable;
+        this.rowHeight = dataTable.getTableConfig().getVirtualRowHeight();
+        this.topSpacerCell = spacerCell();
+        this.topSpacer = tr().css(DataTableStyles.VIRTUAL_SPACER).add(topSpacerCell).element();
+        this.bottomSpacerCell = spacerCell();
+        this.bottomSpacer = tr().css(DataTableStyles.VIRTUAL_SPACER).add(bottomSpacerCell).element();
+
+        HTMLTableSectionElement tbody = dataTable.bodyElement().element();
+        tbody.addEventListener("scroll", evt -> scheduleUpdate());
+        dataTable.bodyElement().onAttached(mutationRecord -> render());
+    }
+
+    private HTMLTableCellElement spacerCell() {
+        return td()
+                .style("padding: 0px; border: none; height: 0px;")
+                .element();
+    }
+
+    void setData(List<T> data) {
+        this.data = nonNull(data) ? data : new ArrayList<>();
+        renderedRows.values().forEach(pool::push);
+        renderedRows.clear();
+        dataTable.getItems().clear();
+
+        HTMLTableSectionElement tbody = dataTable.bodyElement().element();
+        String colspan = dataTable.getTableConfig().getColumns().size() + "";
+        topSpacerCell.setAttribute("colspan", colspan);
+        bottomSpacerCell.setAttribute("colspan", colspan);
+        tbody.appendChild(topSpacer);
+        tbody.appendChild(bottomSpacer);
+        tbody.scrollTop = 0.0;
+
+        firstIndex = -1;
+        lastIndex = -1;
+        render();
+    }
+
+    void refresh() {
+        render();
+    }
+
+    private void scheduleUpdate() {
+        if (pendingFrame < 0) {
+            pendingFrame = DomGlobal.requestAnimationFrame(timestamp -> {
+                pendingFrame = -1;
+                render();
+            });
+        }
+    }
+
+    private void render() {
+        HTMLTableSectionElement tbody = dataTable.bodyElement().element();
+        double scrollTop = tbody.scrollTop;
+        double viewportHeight = tbody.clientHeight;
+        int overscan = dataTable.getTableConfig().getVirtualOverscan();
+
+        int from = Math.max(0, (int) Math.floor(scrollTop / rowHeight) - overscan);
+        int to = Math.min(data.size(), (int) Math.ceil((scrollTop + viewportHeight) / rowHeight) + overscan);
+        if (to <= from) {
+            to = Math.min(data.size(), from + overscan);
+        }
+
+        if (from == firstIndex && to == lastIndex && renderedRows.size() == (to - from)) {
+            return;
+        }
+
+        releaseRowsOutside(from, to);
+
+        boolean rowsAdded = false;
+        Node previous = topSpacer;
+        for (int index = from; index < to; index++) {
+            TableRow<T> tableRow = renderedRows.get(index);
+            if (isNull(tableRow)) {
+                tableRow = acquireRow(index);
+                renderedRows.put(index, tableRow);
+                rowsAdded = true;
+            }
+            HTMLTableRowElement rowElement = tableRow.element();
+            if (rowElement.previousSibling != previous) {
+                tbody.insertBefore(rowElement, previous.nextSibling);
+            }
+            previous = rowElement;
+        }
+
+        firstIndex = from;
+        lastIndex = to;
+        updateItems();
+
+        if (!rowHeightMeasured && !renderedRows.isEmpty()) {
+            double measured = renderedRows.get(from).element().offsetHeight;
+            if (measured > 0) {
+                rowHeight = measured;
+                rowHeightMeasured = true;
+            }
+        }
+        topSpacerCell.style.setProperty("height", (firstIndex * rowHeight) + "px");
+        bottomSpacerCell.style.setProperty("height", ((data.size() - lastIndex) * rowHeight) + "px");
+
+        if (rowsAdded) {
+            dataTable.getTableConfig().getPlugins().forEach(plugin -> plugin.onAllRowsAdded(dataTable));
+        }
+    }
+
+    private void releaseRowsOutside(int from, int to) {
+        Iterator<Map.Entry<Integer, TableRow<T>>> iterator = renderedRows.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Integer, TableRow<T>> entry = iterator.next();
+            if (entry.getKey() < from || entry.getKey() >= to) {
+                TableRow<T> tableRow = entry.getValue();
+                tableRow.element().remove();
+                dataTable.getSelectionModel().onRowRemoved(tableRow);
+                pool.push(tableRow);
+                iterator.remove();
+            }
+        }
+    }
+
+    private TableRow<T> acquireRow(int index) {
+        T record = data.get(index);
+        if (!pool.isEmpty()) {
+            TableRow<T> tableRow = pool.pop();
+            tableRow.rebind(record, index);
+            return tableRow;
+        }
+        TableRow<T> tableRow = new TableRow<>(record, index, dataTable);
+        dataTable.getSelectionModel().restoreSelection(tableRow);
+        dataTable.getTableConfig().getPlugins().forEach(plugin -> plugin.onBeforeAddRow(dataTable, tableRow));
+        dataTable.getTableConfig().drawRecord(dataTable, tableRow);
+        return tableRow;
+    }
+
+    private void updateItems() {
+        List<TableRow<T>> items = dataTable.getItems();
+        items.clear();
+        for (int index = firstIndex; index < lastIndex; index++) {
+            items.add(renderedRows.get(index));
+        }
+    }
+
+    TableRow<T> getRenderedRow(int index) {
+        return renderedRows.get(index);
+    }
+
+    List<T> getRecords() {
+        return new ArrayList<>(data);
+    }
+}
@@ -0,0 +1,39 @@
+package org.dominokit.domino.ui.datatable.events;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * The event types a {@link TableEventListener} handles, declared for the class of the listener, the table only narrows
+ * the dispatch to these types for instances of that exact class, a subclass keeps receiving all the events since it
+ * may override {@link TableEventListener#handleEvent(TableEvent)}, unless it declares its own types.
+ */
+public final class HandledEventTypes {
+
+    private final Class<?> declaringClass;
+    private final Set<String> types;
+
+    private HandledEventTypes(Class<?> declaringClass, Set<String> types) {
+        this.declaringClass = declaringClass;
+        this.types = types;
+    }
+
+    /**
+     * @param declaringClass the class of the listener declaring the types
+     * @param types          the handled event types, none for a listener that does not handle any event
+     * @return new instance
+     */
+    public static HandledEventTypes of(Class<? extends TableEventListener> declaringClass, String... types) {
+        return new HandledEventTypes(declaringClass, Collections.unmodifiableSet(new HashSet<>(Arrays.asList(types))));
+    }
+
+    public Set<String> getTypes() {
+        return types;
+    }
+
+    public boolean isDeclaredFor(TableEventListener listener) {
+        return listener.getClass() == declaringClass;
+    }
+}
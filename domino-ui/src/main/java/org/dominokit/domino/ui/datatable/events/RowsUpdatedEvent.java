@@ -0,0 +1,34 @@
+package org.dominokit.domino.ui.datatable.events;
+
+import org.dominokit.domino.ui.datatable.TableRow;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Fired once for all the rows updated in the same update batch of the table, see
+ * {@link org.dominokit.domino.ui.datatable.DataTable#beginUpdate()}.
+ */
+public class RowsUpdatedEvent<T> implements TableEvent {
+
+    public static final String ROWS_UPDATED = "rows-updated";
+
+    private final List<TableRow<T>> tableRows;
+
+    public RowsUpdatedEvent(List<TableRow<T>> tableRows) {
+        this.tableRows = tableRows;
+    }
+
+    @Override
+    public String getType() {
+        return ROWS_UPDATED;
+    }
+
+    public List<TableRow<T>> getTableRows() {
+        return tableRows;
+    }
+
+    public List<T> getRecords() {
+        return tableRows.stream().map(TableRow::getRecord).collect(Collectors.toList());
+    }
+}
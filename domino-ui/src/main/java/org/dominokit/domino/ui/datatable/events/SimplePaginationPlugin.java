@@ -32,4 +32,9 @@ public class SimplePaginationPlugin<T> implements DataTablePlugin<T> {
     public SimplePagination getSimplePagination() {
         return simplePagination;
     }
+
+    @Override
+    public HandledEventTypes getHandledEventTypes() {
+        return HandledEventTypes.of(SimplePaginationPlugin.class);
+    }
 }
@@ -2,4 +2,15 @@ package org.dominokit.domino.ui.datatable.events;
 
 public interface TableEventListener {
     void handleEvent(TableEvent event);
+
+    /**
+     * When the listener is registered for all the events using {@link org.dominokit.domino.ui.datatable.DataTable#ANY}
+     * the table only dispatches to it the events of the types returned here, the types are only applied to instances
+     * of the class they are declared for, see {@link HandledEventTypes}.
+     *
+     * @return the types of the events handled by this listener, null to receive all the events
+     */
+    default HandledEventTypes getHandledEventTypes() {
+        return null;
+    }
 }
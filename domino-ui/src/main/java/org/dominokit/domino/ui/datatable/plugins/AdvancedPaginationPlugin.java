@@ -1,9 +1,11 @@
 package org.dominokit.domino.ui.datatable.plugins;
 
 import org.dominokit.domino.ui.datatable.DataTable;
+import org.dominokit.domino.ui.datatable.events.HandledEventTypes;
 import org.dominokit.domino.ui.datatable.events.TablePageChangeEvent;
 import org.dominokit.domino.ui.pagination.AdvancedPagination;
 
+
 /**
  * Advanced Pagination Plugin.
  *
@@ -30,4 +32,9 @@ public class AdvancedPaginationPlugin<T> implements DataTablePlugin<T> {
     public AdvancedPagination getPagination() {
         return pagination;
     }
+
+    @Override
+    public HandledEventTypes getHandledEventTypes() {
+        return HandledEventTypes.of(AdvancedPaginationPlugin.class);
+    }
 }
@@ -1,31 +1,191 @@
 package org.dominokit.domino.ui.datatable.plugins;
 
-import elemental2.core.JsMath;
+import elemental2.core.JsArray;
 import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+import elemental2.dom.HTMLTableRowElement;
 import elemental2.dom.HTMLTableSectionElement;
+import jsinterop.annotations.JsFunction;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
 import org.dominokit.domino.ui.datatable.DataTable;
+import org.dominokit.domino.ui.datatable.DataTableStyles;
 import org.dominokit.domino.ui.datatable.events.BodyScrollEvent;
+import org.dominokit.domino.ui.datatable.events.HandledEventTypes;
+import org.dominokit.domino.ui.datatable.events.TableDataUpdatedEvent;
+import org.dominokit.domino.ui.datatable.events.TableEvent;
 
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.jboss.elemento.Elements.tr;
+
+/**
+ * Fires {@link BodyScrollEvent}s when the table body is scrolled to its top or bottom, two empty sentinel rows at the
+ * ends of the body are watched with an IntersectionObserver so the scroll position is never read, and the events are
+ * fired when a sentinel is within the prefetch distance of the visible area so the next page can be loaded before the
+ * user reaches the end.
+ * <p>
+ * After an event is fired no other event for the same position is fired until the table data is updated, browsers without
+ * IntersectionObserver fall back to checking the scroll position on scroll.
+ */
 public class BodyScrollPlugin<T> implements DataTablePlugin<T> {
+
+    private final HTMLTableRowElement topSentinel = tr().css(DataTableStyles.SCROLL_SENTINEL).element();
+    private final HTMLTableRowElement bottomSentinel = tr().css(DataTableStyles.SCROLL_SENTINEL).element();
+    private DataTable<T> dataTable;
+    private SentinelObserver observer;
+    private double prefetchDistance = 0;
+    private boolean loadingTop = false;
+    private boolean loadingBottom = false;
+    private boolean topArmed = false;
+
+    /**
+     * @param prefetchDistance the distance in pixels from the top or the bottom of the visible area at which the scroll
+     *                         events are fired, defaults to 0
+     * @return same plugin instance
+     */
+    public BodyScrollPlugin<T> setPrefetchDistance(double prefetchDistance) {
+        this.prefetchDistance = Math.max(0, prefetchDistance);
+        if (nonNull(observer)) {
+            observer.disconnect();
+            observer = null;
+            observeSentinels();
+        }
+        return this;
+    }
+
+    public double getPrefetchDistance() {
+        return prefetchDistance;
+    }
+
+    public boolean isLoading() {
+        return loadingTop || loadingBottom;
+    }
+
+    /**
+     * Allows the next scroll event when a load triggered by a scroll event ended without updating the table data.
+     */
+    public void loadCompleted() {
+        loadingTop = false;
+        loadingBottom = false;
+        if (nonNull(observer)) {
+            observeSentinels();
+        }
+    }
+
     @Override
     public void onBodyAdded(DataTable<T> dataTable) {
+        this.dataTable = dataTable;
+        placeSentinels();
+        if (Js.asPropertyMap(DomGlobal.window).has("IntersectionObserver")) {
+            observeSentinels();
+        } else {
+            HTMLTableSectionElement tbody = dataTable.bodyElement().element();
+            tbody.addEventListener("scroll", evt -> onBodyScroll(tbody));
+        }
+    }
+
+    private void placeSentinels() {
         HTMLTableSectionElement tbody = dataTable.bodyElement().element();
-        tbody.addEventListener("scroll", evt -> {
-            double scrollTop = new Double(tbody.scrollTop).intValue();
-            if (scrollTop == 0) {
-                dataTable.fireTableEvent(new BodyScrollEvent(ScrollPosition.TOP));
+        if (tbody.firstChild != topSentinel) {
+            tbody.insertBefore(topSentinel, tbody.firstChild);
+        }
+        if (tbody.lastChild != bottomSentinel) {
+            tbody.appendChild(bottomSentinel);
+        }
+    }
+
+    private void observeSentinels() {
+        if (isNull(observer)) {
+            JsPropertyMap<Object> options = JsPropertyMap.of();
+            if (dataTable.getTableConfig().isFixed()) {
+                options.set("root", dataTable.bodyElement().element());
+            }
+            options.set("rootMargin", prefetchDistance + "px 0px " + prefetchDistance + "px 0px");
+            observer = new SentinelObserver(this::onIntersection, options);
+        } else {
+            observer.unobserve(topSentinel);
+            observer.unobserve(bottomSentinel);
+        }
+        topArmed = false;
+        observer.observe(topSentinel);
+        observer.observe(bottomSentinel);
+    }
+
+    private void onIntersection(JsArray<Object> entries) {
+        for (int i = 0; i < entries.length; i++) {
+            JsPropertyMap<Object> entry = Js.asPropertyMap(entries.getAt(i));
+            boolean intersecting = Js.isTruthy(entry.get("isIntersecting"));
+            if (entry.get("target") == topSentinel) {
+                if (!intersecting) {
+                    topArmed = true;
+                } else if (topArmed) {
+                    fireScrollEvent(ScrollPosition.TOP);
+                }
+            } else if (intersecting) {
+                fireScrollEvent(ScrollPosition.BOTTOM);
             }
-            int offsetHeight = new Double(tbody.offsetHeight).intValue();
-            int scrollHeight = new Double(tbody.scrollHeight).intValue();
+        }
+    }
 
-            if (JsMath.abs(offsetHeight) + JsMath.abs(scrollTop) == new Double(scrollHeight).intValue()) {
-                dataTable.fireTableEvent(new BodyScrollEvent(ScrollPosition.BOTTOM));
+    private void onBodyScroll(HTMLTableSectionElement tbody) {
+        if (tbody.scrollTop <= prefetchDistance) {
+            fireScrollEvent(ScrollPosition.TOP);
+        } else if (tbody.scrollTop + tbody.clientHeight >= tbody.scrollHeight - prefetchDistance - 1) {
+            fireScrollEvent(ScrollPosition.BOTTOM);
+        }
+    }
+
+    private void fireScrollEvent(ScrollPosition scrollPosition) {
+        if (ScrollPosition.TOP == scrollPosition) {
+            if (loadingTop) {
+                return;
+            }
+            loadingTop = true;
+        } else {
+            if (loadingBottom) {
+                return;
             }
-        });
+            loadingBottom = true;
+        }
+        dataTable.fireTableEvent(new BodyScrollEvent(scrollPosition));
+    }
+
+    @Override
+    public HandledEventTypes getHandledEventTypes() {
+        return HandledEventTypes.of(BodyScrollPlugin.class, TableDataUpdatedEvent.DATA_UPDATED);
+    }
+
+    @Override
+    public void handleEvent(TableEvent event) {
+        if (TableDataUpdatedEvent.DATA_UPDATED.equals(event.getType()) && nonNull(dataTable)) {
+            placeSentinels();
+            loadCompleted();
+        }
     }
 
     public enum ScrollPosition{
         TOP,
         BOTTOM
     }
+
+    @JsFunction
+    interface IntersectionCallback {
+        void onIntersection(JsArray<Object> entries);
+    }
+
+    @JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "IntersectionObserver")
+    static class SentinelObserver {
+        SentinelObserver(IntersectionCallback callback, JsPropertyMap<Object> options) {
+        }
+
+        native void observe(Element target);
+
+        native void unobserve(Element target);
+
+        native void disconnect();
+    }
 }
@@ -5,6 +5,7 @@ import elemental2.dom.HTMLTableCellElement;
 import elemental2.dom.HTMLTableRowElement;
 import elemental2.dom.HTMLTableSectionElement;
 import org.dominokit.domino.ui.datatable.*;
+import org.dominokit.domino.ui.datatable.events.HandledEventTypes;
 import org.dominokit.domino.ui.datatable.events.SearchClearedEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
 import org.dominokit.domino.ui.datatable.model.SearchContext;
@@ -89,6 +90,11 @@ public class ColumnHeaderFilterPlugin<T> implements DataTablePlugin<T> {
         return this;
     }
 
+    @Override
+    public HandledEventTypes getHandledEventTypes() {
+        return HandledEventTypes.of(ColumnHeaderFilterPlugin.class, SearchClearedEvent.SEARCH_EVENT_CLEARED);
+    }
+
     @Override
     public void handleEvent(TableEvent event) {
         if (SearchClearedEvent.SEARCH_EVENT_CLEARED.equals(event.getType())) {
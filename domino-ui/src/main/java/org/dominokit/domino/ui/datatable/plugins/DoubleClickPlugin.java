@@ -2,8 +2,10 @@ package org.dominokit.domino.ui.datatable.plugins;
 
 import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.TableRow;
+import org.dominokit.domino.ui.datatable.events.HandledEventTypes;
 import org.jboss.elemento.EventType;
 
+
 public class DoubleClickPlugin<T> implements DataTablePlugin<T> {
 
     private DoublClickHandler<T> handler;
@@ -13,14 +15,17 @@ public class DoubleClickPlugin<T> implements DataTablePlugin<T> {
     }
 
     @Override
-    public void onRowAdded(DataTable<T> dataTable, TableRow<T> tableRow) {
-        tableRow.element().addEventListener(EventType.dblclick.getName(), evt -> {
-            handler.onDoubleClick(tableRow);
-        });
+    public void init(DataTable<T> dataTable) {
+        dataTable.addRowEventListener(EventType.dblclick.getName(), (evt, tableRow) -> handler.onDoubleClick(tableRow));
     }
 
     @FunctionalInterface
     public interface DoublClickHandler<T> {
         void onDoubleClick(TableRow<T> tableRow);
     }
+
+    @Override
+    public HandledEventTypes getHandledEventTypes() {
+        return HandledEventTypes.of(DoubleClickPlugin.class);
+    }
 }
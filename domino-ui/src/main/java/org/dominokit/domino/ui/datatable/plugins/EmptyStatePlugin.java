@@ -1,12 +1,14 @@
 package org.dominokit.domino.ui.datatable.plugins;
 
 import org.dominokit.domino.ui.datatable.DataTable;
+import org.dominokit.domino.ui.datatable.events.HandledEventTypes;
 import org.dominokit.domino.ui.datatable.events.TableDataUpdatedEvent;
 import org.dominokit.domino.ui.icons.BaseIcon;
 import org.dominokit.domino.ui.layout.EmptyState;
 import org.dominokit.domino.ui.style.Color;
 import org.dominokit.domino.ui.style.Styles;
 
+
 public class EmptyStatePlugin<T> implements DataTablePlugin<T> {
 
     private EmptyState emptyState;
@@ -35,4 +37,9 @@ public class EmptyStatePlugin<T> implements DataTablePlugin<T> {
     public EmptyState getEmptyState() {
         return emptyState;
     }
+
+    @Override
+    public HandledEventTypes getHandledEventTypes() {
+        return HandledEventTypes.of(EmptyStatePlugin.class);
+    }
 }
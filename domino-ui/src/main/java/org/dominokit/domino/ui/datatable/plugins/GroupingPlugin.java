@@ -1,11 +1,15 @@
 package org.dominokit.domino.ui.datatable.plugins;
 
+import elemental2.dom.DocumentFragment;
+import elemental2.dom.DomGlobal;
 import elemental2.dom.HTMLTableCellElement;
+import elemental2.dom.HTMLTableRowElement;
 import elemental2.dom.Node;
 import org.dominokit.domino.ui.datatable.CellRenderer;
 import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.TableConfig;
 import org.dominokit.domino.ui.datatable.TableRow;
+import org.dominokit.domino.ui.datatable.events.HandledEventTypes;
 import org.dominokit.domino.ui.datatable.events.OnBeforeDataChangeEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
 import org.dominokit.domino.ui.grid.flex.FlexItem;
@@ -14,12 +18,11 @@ import org.dominokit.domino.ui.icons.BaseIcon;
 import org.dominokit.domino.ui.icons.Icons;
 import org.dominokit.domino.ui.utils.DominoElement;
 
-import java.util.ArrayList;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
+import java.util.*;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.style.Unit.px;
 import static org.jboss.elemento.Elements.td;
@@ -27,11 +30,15 @@ import static org.jboss.elemento.Elements.tr;
 
 public class GroupingPlugin<T> implements DataTablePlugin<T>, TableConfig.RowAppender<T> {
 
-    private Map<String, DataGroup<T>> dataGroups = new HashMap<>();
+    private Map<String, DataGroup> dataGroups = new LinkedHashMap<>();
     private final GroupSupplier<T> groupSupplier;
     private CellRenderer<T> groupRenderer;
     private Supplier<BaseIcon<?>> groupExpandedIconSupplier = Icons.ALL::minus_box_mdi;
     private Supplier<BaseIcon<?>> groupCollapsedIconSupplier = Icons.ALL::plus_box_mdi;
+    private boolean lazyRendering = false;
+    private boolean groupsExpanded = true;
+    private final Map<String, Function<T, Number>> sumAggregates = new LinkedHashMap<>();
+    private boolean appending = false;
 
     public GroupingPlugin(GroupSupplier<T> groupSupplier, CellRenderer<T> groupRenderer) {
         this.groupSupplier = groupSupplier;
@@ -54,77 +61,271 @@ public class GroupingPlugin<T> implements DataTablePlugin<T>, TableConfig.RowApp
         return this;
     }
 
+    /**
+     * When enabled the rows of a group are rendered and attached only when the group is expanded and detached when it
+     * is collapsed, the group headers are added first, use it with {@link #setGroupsExpanded(boolean)} set to false
+     * for tables with many rows.
+     *
+     * @param lazyRendering boolean
+     * @return same plugin instance
+     */
+    public GroupingPlugin<T> setLazyRendering(boolean lazyRendering) {
+        this.lazyRendering = lazyRendering;
+        return this;
+    }
+
+    public boolean isLazyRendering() {
+        return lazyRendering;
+    }
+
+    /**
+     * @param groupsExpanded the initial state of the groups, true by default
+     * @return same plugin instance
+     */
+    public GroupingPlugin<T> setGroupsExpanded(boolean groupsExpanded) {
+        this.groupsExpanded = groupsExpanded;
+        return this;
+    }
+
+    /**
+     * Adds a sum of the values of the records of each group, the sums and the records count are computed once while
+     * the rows are grouped and are available to the group renderer from the {@link GroupAggregates} meta object of
+     * the group first row.
+     *
+     * @param name          the aggregate name
+     * @param valueProvider the record value to sum, null values are skipped
+     * @return same plugin instance
+     */
+    public GroupingPlugin<T> addSumAggregate(String name, Function<T, Number> valueProvider) {
+        sumAggregates.put(name, valueProvider);
+        return this;
+    }
+
+    @Override
+    public boolean isDeferRowRendering() {
+        return lazyRendering;
+    }
+
     @Override
     public void appendRow(DataTable<T> dataTable, TableRow<T> tableRow) {
         String groupId = groupSupplier.getRecordGroupId(tableRow);
-        if (!dataGroups.containsKey(groupId)) {
-            DataGroup<T> dataGroup = new DataGroup<>(tableRow);
-            HTMLTableCellElement cellElement = td()
+        DataGroup dataGroup = dataGroups.get(groupId);
+        if (nonNull(dataGroup)) {
+            dataGroup.addRow(tableRow);
+        } else {
+            dataGroup = new DataGroup(dataTable, tableRow);
+            dataGroups.put(groupId, dataGroup);
+        }
+    }
+
+    @Override
+    public void beginAppend(DataTable<T> dataTable) {
+        appending = true;
+    }
+
+    /**
+     * Inserts the rows collected for each existing group after the group last row, then appends the new groups
+     * together at the end of the table body.
+     */
+    @Override
+    public void endAppend(DataTable<T> dataTable) {
+        appending = false;
+        DocumentFragment newGroupsRows = DomGlobal.document.createDocumentFragment();
+        dataGroups.values().forEach(dataGroup -> dataGroup.flushPending(newGroupsRows));
+        dataTable.bodyElement().appendChild(newGroupsRows);
+    }
+
+    @Override
+    public void onAllRowsAdded(DataTable<T> dataTable) {
+        dataGroups.values().forEach(DataGroup::renderHeader);
+    }
+
+    public Optional<GroupAggregates> getGroupAggregates(String groupId) {
+        return Optional.ofNullable(dataGroups.get(groupId)).map(dataGroup -> dataGroup.aggregates);
+    }
+
+    @Override
+    public HandledEventTypes getHandledEventTypes() {
+        return HandledEventTypes.of(GroupingPlugin.class, OnBeforeDataChangeEvent.ON_BEFORE_DATA_CHANGE);
+    }
+
+    @Override
+    public void handleEvent(TableEvent event) {
+        if (event.getType().equalsIgnoreCase(OnBeforeDataChangeEvent.ON_BEFORE_DATA_CHANGE)
+                && !((OnBeforeDataChangeEvent<T>) event).isAppend()) {
+            dataGroups.clear();
+        }
+    }
+
+    private class DataGroup {
+
+        private final DataTable<T> dataTable;
+        private final List<TableRow<T>> groupRows = new ArrayList<>();
+        private final HTMLTableRowElement headerRow;
+        private final HTMLTableCellElement headerCell;
+        private final FlexItem headerContent;
+        private final GroupAggregates aggregates = new GroupAggregates();
+        private Node lastNode;
+        private DocumentFragment pending;
+        private boolean headerPending = false;
+        private boolean expanded = groupsExpanded;
+        private boolean headerChanged = true;
+
+        private DataGroup(DataTable<T> dataTable, TableRow<T> firstRow) {
+            this.dataTable = dataTable;
+            headerCell = td()
                     .attr("colspan", dataTable.getTableConfig().getColumns().size() + "")
                     .element();
-            CellRenderer.CellInfo<T> cellInfo = new CellRenderer.CellInfo<>(tableRow, cellElement);
-
-            cellElement.appendChild(FlexLayout.create()
+            BaseIcon<?> icon = expanded ? groupExpandedIconSupplier.get() : groupCollapsedIconSupplier.get();
+            BaseIcon<?> toggleIcon = expanded ? groupCollapsedIconSupplier.get() : groupExpandedIconSupplier.get();
+            headerContent = FlexItem.create()
+                    .styler(style -> style.setLineHeight(px.of(35))
+                            .setPaddingLeft(px.of(10)))
+                    .setFlexGrow(1);
+            headerCell.appendChild(FlexLayout.create()
                     .appendChild(FlexItem.create()
-                            .appendChild(groupExpandedIconSupplier.get()
+                            .appendChild(icon
                                     .clickable()
-                                    .setToggleIcon(groupCollapsedIconSupplier.get())
+                                    .setToggleIcon(toggleIcon)
                                     .toggleOnClick(true)
-                                    .addClickListener(evt -> dataGroup.toggleGroup())))
-                    .appendChild(FlexItem.create()
-                            .styler(style -> style.setLineHeight(px.of(35))
-                                    .setPaddingLeft(px.of(10)))
-                            .setFlexGrow(1)
-                            .appendChild(groupRenderer.asElement(cellInfo)))
+                                    .addClickListener(evt -> toggleGroup())))
+                    .appendChild(headerContent)
                     .element());
+            headerRow = tr().add(headerCell).element();
+            firstRow.addMetaObject(aggregates);
+            if (appending) {
+                headerPending = true;
+                pendingRows().appendChild(headerRow);
+            } else {
+                dataTable.bodyElement().appendChild(headerRow);
+            }
+            lastNode = headerRow;
+            addRow(firstRow);
+        }
 
-            dataTable.bodyElement().appendChild(tr().add(cellElement));
-            dataTable.bodyElement().appendChild(tableRow.element());
-            dataGroups.put(groupId, dataGroup);
-        } else {
-            DataGroup<T> dataGroup = dataGroups.get(groupId);
-            Node nextSibling = dataGroup.lastRow.element().nextSibling;
+        private void addRow(TableRow<T> tableRow) {
+            groupRows.add(tableRow);
+            aggregates.add(tableRow.getRecord(), sumAggregates);
+            headerChanged = true;
+            if (expanded) {
+                tableRow.render();
+                attach(tableRow);
+            } else if (!lazyRendering) {
+                DominoElement.of(tableRow.element()).toggleDisplay(false);
+                attach(tableRow);
+            }
+        }
+
+        private void attach(TableRow<T> tableRow) {
+            if (appending) {
+                pendingRows().appendChild(tableRow.element());
+            } else {
+                insertAfter(tableRow.element(), lastNode);
+                lastNode = tableRow.element();
+            }
+        }
+
+        private DocumentFragment pendingRows() {
+            if (isNull(pending)) {
+                pending = DomGlobal.document.createDocumentFragment();
+            }
+            return pending;
+        }
+
+        private void flushPending(DocumentFragment newGroupsRows) {
+            if (isNull(pending)) {
+                return;
+            }
+            DocumentFragment rows = pending;
+            Node previous = lastNode;
+            pending = null;
+            lastNode = rows.lastChild;
+            if (headerPending) {
+                headerPending = false;
+                newGroupsRows.appendChild(rows);
+            } else {
+                insertAfter(rows, previous);
+            }
+        }
+
+        private void insertAfter(Node node, Node previous) {
+            Node nextSibling = previous.nextSibling;
             if (nonNull(nextSibling)) {
-                DominoElement.of(dataTable.bodyElement()).insertBefore(tableRow.element(), nextSibling);
+                dataTable.bodyElement().element().insertBefore(node, nextSibling);
             } else {
-                dataTable.bodyElement().appendChild(tableRow.element());
+                dataTable.bodyElement().appendChild(node);
             }
+        }
 
-            dataGroup.lastRow = tableRow;
-            dataGroup.addRow(tableRow);
+        private void renderHeader() {
+            if (headerChanged) {
+                headerChanged = false;
+                CellRenderer.CellInfo<T> cellInfo = new CellRenderer.CellInfo<>(groupRows.get(0), headerCell);
+                headerContent.clearElement();
+                headerContent.appendChild(groupRenderer.asElement(cellInfo));
+            }
+        }
 
+        private void toggleGroup() {
+            expanded = !expanded;
+            if (lazyRendering) {
+                if (expanded) {
+                    attachRows();
+                } else {
+                    groupRows.forEach(tableRow -> tableRow.element().remove());
+                    lastNode = headerRow;
+                }
+            } else {
+                groupRows.forEach(tableRow -> DominoElement.of(tableRow.element())
+                        .toggleDisplay(expanded));
+            }
         }
-    }
 
-    @Override
-    public void handleEvent(TableEvent event) {
-        if (event.getType().equalsIgnoreCase(OnBeforeDataChangeEvent.ON_BEFORE_DATA_CHANGE)) {
-            dataGroups.clear();
+        private void attachRows() {
+            DocumentFragment fragment = DomGlobal.document.createDocumentFragment();
+            groupRows.forEach(tableRow -> fragment.appendChild(tableRow.render().element()));
+            insertAfter(fragment, headerRow);
+            lastNode = groupRows.get(groupRows.size() - 1).element();
         }
     }
 
-    private class DataGroup<T> {
+    /**
+     * The records count and the sums of the aggregates added by {@link #addSumAggregate(String, Function)} for a
+     * group, added as a meta object to the first row of the group.
+     */
+    public static class GroupAggregates implements TableRow.RowMetaObject {
 
-        private List<TableRow<T>> groupRows = new ArrayList<>();
-        private TableRow<T> lastRow;
-        private boolean expanded = true;
+        public static final String KEY = "data-group-aggregates";
 
-        public DataGroup(TableRow<T> lastRow) {
-            this.lastRow = lastRow;
-            groupRows.add(lastRow);
+        private int count = 0;
+        private final Map<String, Double> sums = new HashMap<>();
+
+        private <T> void add(T record, Map<String, Function<T, Number>> sumAggregates) {
+            count++;
+            sumAggregates.forEach((name, valueProvider) -> {
+                Number value = valueProvider.apply(record);
+                if (nonNull(value)) {
+                    sums.put(name, sums.getOrDefault(name, 0d) + value.doubleValue());
+                }
+            });
         }
 
-        public void toggleGroup() {
-            expanded = !expanded;
-            groupRows.forEach(tableRow -> DominoElement.of(tableRow.element())
-                    .toggleDisplay(expanded));
+        public int getCount() {
+            return count;
+        }
 
+        public double getSum(String name) {
+            return sums.getOrDefault(name, 0d);
         }
 
-        public void addRow(TableRow<T> tableRow) {
-            groupRows.add(tableRow);
+        public double getAverage(String name) {
+            return count == 0 ? 0 : getSum(name) / count;
         }
 
+        @Override
+        public String getKey() {
+            return KEY;
+        }
     }
 
     @FunctionalInterface
@@ -5,6 +5,7 @@ import jsinterop.base.Js;
 import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.DataTableStyles;
 import org.dominokit.domino.ui.datatable.DefaultColumnShowHideListener;
+import org.dominokit.domino.ui.datatable.events.HandledEventTypes;
 import org.dominokit.domino.ui.datatable.events.SearchClearedEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
 import org.dominokit.domino.ui.datatable.model.Category;
@@ -430,4 +431,9 @@ public class HeaderBarPlugin<T> implements DataTablePlugin<T> {
 
         }
     }
+
+    @Override
+    public HandledEventTypes getHandledEventTypes() {
+        return HandledEventTypes.of(HeaderBarPlugin.class);
+    }
 }
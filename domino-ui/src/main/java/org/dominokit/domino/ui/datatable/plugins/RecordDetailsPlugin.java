@@ -4,15 +4,19 @@ import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.HTMLTableCellElement;
 import elemental2.dom.HTMLTableRowElement;
+import jsinterop.base.Js;
 import org.dominokit.domino.ui.button.Button;
 import org.dominokit.domino.ui.datatable.*;
 import org.dominokit.domino.ui.datatable.events.ExpandRecordEvent;
+import org.dominokit.domino.ui.datatable.events.HandledEventTypes;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
 import org.dominokit.domino.ui.icons.BaseIcon;
 import org.dominokit.domino.ui.icons.Icons;
 import org.dominokit.domino.ui.utils.ElementUtil;
+import org.jboss.elemento.EventType;
 import org.jboss.elemento.IsElement;
 
+
 import static java.util.Objects.nonNull;
 import static org.jboss.elemento.Elements.*;
 
@@ -40,6 +44,16 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
         this.expandIcon = expandIcon;
     }
 
+    @Override
+    public void init(DataTable<T> dataTable) {
+        dataTable.addRowEventListener(EventType.click.getName(), (evt, tableRow) -> {
+            DetailsButtonElement<T> detailsButtonElement = tableRow.getMetaObject(DataTableStyles.RECORD_DETAILS_BUTTON);
+            if (nonNull(detailsButtonElement) && detailsButtonElement.element().contains(Js.uncheckedCast(evt.target))) {
+                detailsButtonElement.toggle();
+            }
+        });
+    }
+
     @Override
     public void onBeforeAddHeaders(DataTable<T> dataTable) {
         this.dataTable = dataTable;
@@ -68,6 +82,11 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
         dataTable.getTableConfig().insertColumnFirst(column);
     }
 
+    @Override
+    public HandledEventTypes getHandledEventTypes() {
+        return HandledEventTypes.of(RecordDetailsPlugin.class, ExpandRecordEvent.EXPAND_RECORD);
+    }
+
     @Override
     public void handleEvent(TableEvent event) {
         if (ExpandRecordEvent.EXPAND_RECORD.equals(event.getType())) {
@@ -117,20 +136,20 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
                     .setHeight("27px")
                     .setPaddingLeft("2px")
                     .setPaddingRight("2px");
-
-            button.addClickListener(evt -> {
-                if (expanded) {
-                    collapse();
-                } else {
-                    expand();
-                }
-            });
         }
 
         public CellRenderer.CellInfo<T> getCellInfo() {
             return cellInfo;
         }
 
+        public void toggle() {
+            if (expanded) {
+                collapse();
+            } else {
+                expand();
+            }
+        }
+
         public void expand() {
             button.setIcon(collapseIcon.copy());
             expanded = true;
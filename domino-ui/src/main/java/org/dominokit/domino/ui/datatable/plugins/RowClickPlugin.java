@@ -1,10 +1,12 @@
 package org.dominokit.domino.ui.datatable.plugins;
 
 import org.dominokit.domino.ui.datatable.DataTable;
+import org.dominokit.domino.ui.datatable.DataTableStyles;
 import org.dominokit.domino.ui.datatable.TableRow;
-import org.dominokit.domino.ui.utils.DominoElement;
+import org.dominokit.domino.ui.datatable.events.HandledEventTypes;
 import org.jboss.elemento.EventType;
 
+
 public class RowClickPlugin<T> implements DataTablePlugin<T> {
     private ClickHandler<T> handler;
 
@@ -13,13 +15,18 @@ public class RowClickPlugin<T> implements DataTablePlugin<T> {
     }
 
     @Override
-    public void onRowAdded(DataTable<T> dataTable, TableRow<T> tableRow) {
-        DominoElement.of(tableRow.element()).styler(style -> style.setCursor("pointer"));
-        tableRow.element().addEventListener(EventType.click.getName(), evt -> handler.onClick(tableRow));
+    public void init(DataTable<T> dataTable) {
+        dataTable.bodyElement().style().add(DataTableStyles.CLICKABLE_ROWS);
+        dataTable.addRowEventListener(EventType.click.getName(), (evt, tableRow) -> handler.onClick(tableRow));
     }
 
     @FunctionalInterface
     public interface ClickHandler<T> {
         void onClick(TableRow<T> tableRow);
     }
+
+    @Override
+    public HandledEventTypes getHandledEventTypes() {
+        return HandledEventTypes.of(RowClickPlugin.class);
+    }
 }
@@ -5,6 +5,7 @@ import elemental2.dom.Text;
 import org.dominokit.domino.ui.datatable.ColumnConfig;
 import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.CellRenderer;
+import org.dominokit.domino.ui.datatable.events.HandledEventTypes;
 import org.dominokit.domino.ui.style.ColorScheme;
 import org.dominokit.domino.ui.style.Style;
 
@@ -12,6 +13,8 @@ import static java.util.Objects.nonNull;
 
 public class RowMarkerPlugin<T> implements DataTablePlugin<T> {
 
+    private static final String DATA_MARKER_COLOR = "data-marker-color";
+
     private final MarkerColor<T> markerColor;
 
     @Override
@@ -25,9 +28,16 @@ public class RowMarkerPlugin<T> implements DataTablePlugin<T> {
                         .setWidth("3px", true))
 
                 .setCellRenderer(cell -> {
+                    String previousMarker = cell.getElement().getAttribute(DATA_MARKER_COLOR);
+                    if (nonNull(previousMarker)) {
+                        Style.of(cell.getElement()).remove(previousMarker);
+                        cell.getElement().removeAttribute(DATA_MARKER_COLOR);
+                    }
                     ColorScheme colorScheme = markerColor.getColorScheme(cell);
                     if (nonNull(colorScheme)) {
-                        Style.of(cell.getElement()).add(markerColor.getColorScheme(cell).color().getBackground());
+                        String marker = colorScheme.color().getBackground();
+                        Style.of(cell.getElement()).add(marker);
+                        cell.getElement().setAttribute(DATA_MARKER_COLOR, marker);
                     }
                     return DomGlobal.document.createTextNode("");
                 }));
@@ -41,4 +51,9 @@ public class RowMarkerPlugin<T> implements DataTablePlugin<T> {
     public interface MarkerColor<T> {
         ColorScheme getColorScheme(CellRenderer.CellInfo<T> tableCellInfo);
     }
+
+    @Override
+    public HandledEventTypes getHandledEventTypes() {
+        return HandledEventTypes.of(RowMarkerPlugin.class);
+    }
 }
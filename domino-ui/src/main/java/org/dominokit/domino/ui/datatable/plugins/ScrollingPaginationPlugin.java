@@ -1,9 +1,11 @@
 package org.dominokit.domino.ui.datatable.plugins;
 
 import org.dominokit.domino.ui.datatable.DataTable;
+import org.dominokit.domino.ui.datatable.events.HandledEventTypes;
 import org.dominokit.domino.ui.datatable.events.TablePageChangeEvent;
 import org.dominokit.domino.ui.pagination.ScrollingPagination;
 
+
 /**
  * Scrolling Pagination Plugin.
  *
@@ -34,4 +36,9 @@ public class ScrollingPaginationPlugin<T> implements DataTablePlugin<T> {
     public ScrollingPagination getPagination() {
         return pagination;
     }
+
+    @Override
+    public HandledEventTypes getHandledEventTypes() {
+        return HandledEventTypes.of(ScrollingPaginationPlugin.class);
+    }
 }
@@ -6,6 +6,7 @@ import elemental2.dom.MouseEvent;
 import elemental2.dom.Node;
 import jsinterop.base.Js;
 import org.dominokit.domino.ui.datatable.*;
+import org.dominokit.domino.ui.datatable.events.HandledEventTypes;
 import org.dominokit.domino.ui.forms.CheckBox;
 import org.dominokit.domino.ui.icons.BaseIcon;
 import org.dominokit.domino.ui.icons.Icons;
@@ -24,7 +25,6 @@ import static java.util.Objects.requireNonNull;
 public class SelectionPlugin<T> implements DataTablePlugin<T> {
 
     private ColorScheme colorScheme;
-    private Selectable<T> selectedRow;
     private HTMLElement singleSelectIndicator = Icons.ALL.check().element();
     private SelectionCondition<T> selectionCondition = (table, row) -> true;
     private TableRow<T> lastSelected;
@@ -82,45 +82,74 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
 
     private Node createSingleSelectCell(DataTable<T> dataTable, CellRenderer.CellInfo<T> cell) {
         HTMLElement clonedIndicator = Js.uncheckedCast(singleSelectIndicator.cloneNode(true));
-        cell.getTableRow().element().addEventListener("click", evt -> {
-            if (selectionCondition.isAllowSelection(dataTable, cell.getTableRow())) {
-                if (cell.getTableRow().isSelected()) {
-                    cell.getTableRow().deselect();
-                } else {
-                    cell.getTableRow().select();
-                }
-                dataTable.onSelectionChange(cell.getTableRow());
-            }
-        });
-        cell.getTableRow().addSelectionHandler(selectable -> {
+        setRowSelectionHandler(cell.getTableRow(), selectable -> {
             if (selectionCondition.isAllowSelection(dataTable, cell.getTableRow())) {
                 if (selectable.isSelected()) {
-                    if (nonNull(selectedRow)) {
-                        selectedRow.deselect();
-                    }
                     Style.of(clonedIndicator).setDisplay("inline-block");
                     if (nonNull(colorScheme)) {
                         Style.of(((TableRow<T>) selectable).element()).add(colorScheme.lighten_5().getBackground());
                     }
-                    selectedRow = selectable;
                 } else {
                     Style.of(clonedIndicator).setDisplay("none");
                     if (nonNull(colorScheme)) {
                         Style.of(((TableRow<T>) selectable).element()).remove(colorScheme.lighten_5().getBackground());
                     }
-                    selectedRow = null;
                 }
             }
         });
-        Style.of(clonedIndicator).setDisplay("none");
+        Style.of(clonedIndicator).setDisplay(cell.getTableRow().isSelected() ? "inline-block" : "none");
+        applySelectionBackground(cell.getTableRow());
         return clonedIndicator;
     }
 
+    @Override
+    public void init(DataTable<T> dataTable) {
+        if (!dataTable.getTableConfig().isMultiSelect()) {
+            dataTable.addRowEventListener("click", (evt, tableRow) -> {
+                if (selectionCondition.isAllowSelection(dataTable, tableRow)) {
+                    if (tableRow.isSelected()) {
+                        tableRow.deselect();
+                    } else {
+                        tableRow.select();
+                    }
+                    dataTable.onSelectionChange(tableRow);
+                }
+            });
+        }
+    }
+
+    /**
+     * Replaces the selection handler added by a previous render of the row selection cell, so updating a row does not
+     * pile up handlers.
+     */
+    private void setRowSelectionHandler(TableRow<T> tableRow, Selectable.SelectionHandler<T> selectionHandler) {
+        RowSelectionHandler<T> previous = tableRow.getMetaObject(RowSelectionHandler.KEY);
+        if (nonNull(previous)) {
+            tableRow.removeSelectionHandler(previous.selectionHandler);
+        }
+        tableRow.addSelectionHandler(selectionHandler);
+        tableRow.addMetaObject(new RowSelectionHandler<>(selectionHandler));
+    }
+
+    private void applySelectionBackground(TableRow<T> tableRow) {
+        if (nonNull(colorScheme)) {
+            if (tableRow.isSelected()) {
+                Style.of(tableRow.element()).add(colorScheme.lighten_5().getBackground());
+            } else {
+                Style.of(tableRow.element()).remove(colorScheme.lighten_5().getBackground());
+            }
+        }
+    }
+
     private Node createMultiSelectCell(DataTable<T> dataTable, CellRenderer.CellInfo<T> cell) {
         CheckBox checkBox = createCheckBox();
 
         TableRow<T> tableRow = cell.getTableRow();
-        tableRow.addSelectionHandler(selectable -> {
+        if (tableRow.isSelected()) {
+            checkBox.check(true);
+        }
+        applySelectionBackground(tableRow);
+        setRowSelectionHandler(tableRow, selectable -> {
             if (selectionCondition.isAllowSelection(dataTable, tableRow)) {
                 if (selectable.isSelected()) {
                     checkBox.check(true);
@@ -139,14 +168,7 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
         checkBox.addClickListener(evt -> {
             MouseEvent mouseEvent = Js.cast(evt);
             if (mouseEvent.shiftKey) {
-                int startIndex = getStartSelectionIndex(dataTable);
-                int endIndex = tableRow.getIndex();
-                int increment = startIndex < endIndex ? 1 : -1;
-                for (int i = startIndex; startIndex < endIndex ? i <= endIndex : i >= endIndex; i += increment) {
-                    TableRow<T> row = dataTable.getItems()
-                            .get(i);
-                    selectRow(dataTable, row);
-                }
+                dataTable.getSelectionModel().selectRange(getStartSelectionIndex(dataTable), tableRow.getIndex(), selectionCondition);
             } else {
                 this.lastSelected = tableRow;
             }
@@ -237,4 +259,23 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
         }
         return this;
     }
-}
\ No newline at end of file
+
+    private static final class RowSelectionHandler<T> implements TableRow.RowMetaObject {
+        private static final String KEY = "data-table-row-selection-handler";
+        private final Selectable.SelectionHandler<T> selectionHandler;
+
+        private RowSelectionHandler(Selectable.SelectionHandler<T> selectionHandler) {
+            this.selectionHandler = selectionHandler;
+        }
+
+        @Override
+        public String getKey() {
+            return KEY;
+        }
+    }
+
+    @Override
+    public HandledEventTypes getHandledEventTypes() {
+        return HandledEventTypes.of(SelectionPlugin.class);
+    }
+}
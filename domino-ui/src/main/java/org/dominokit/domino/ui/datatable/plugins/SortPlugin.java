@@ -4,6 +4,7 @@ import elemental2.dom.HTMLElement;
 import org.dominokit.domino.ui.datatable.ColumnConfig;
 import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.events.DataSortEvent;
+import org.dominokit.domino.ui.datatable.events.HandledEventTypes;
 import org.dominokit.domino.ui.datatable.events.SortEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
 import org.dominokit.domino.ui.icons.Icons;
@@ -69,6 +70,11 @@ public class SortPlugin<T> implements DataTablePlugin<T> {
         dataTable.fireTableEvent(new SortEvent<>(direction, column));
     }
 
+    @Override
+    public HandledEventTypes getHandledEventTypes() {
+        return HandledEventTypes.of(SortPlugin.class, DataSortEvent.EVENT);
+    }
+
     @Override
     public void handleEvent(TableEvent event) {
         if (DataSortEvent.EVENT.equalsIgnoreCase(event.getType())) {
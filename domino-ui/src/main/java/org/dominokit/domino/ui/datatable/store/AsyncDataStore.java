@@ -0,0 +1,243 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import org.dominokit.domino.ui.datatable.events.HandledEventTypes;
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.events.SortEvent;
+import org.dominokit.domino.ui.datatable.events.TableEvent;
+import org.dominokit.domino.ui.datatable.model.Filter;
+import org.dominokit.domino.ui.datatable.plugins.SortDirection;
+import org.dominokit.domino.ui.pagination.HasPagination;
+
+import java.util.*;
+import java.util.function.Consumer;
+
+import static java.util.Objects.nonNull;
+import static org.dominokit.domino.ui.datatable.events.SearchEvent.SEARCH_EVENT;
+import static org.dominokit.domino.ui.datatable.events.SortEvent.SORT_EVENT;
+import static org.dominokit.domino.ui.datatable.events.TablePageChangeEvent.PAGINATION_EVENT;
+
+/**
+ * A {@link DataStore} for records loaded page by page from a server or any asynchronous source through a
+ * {@link PageLoader}.
+ * <p>
+ * The search, sort and page change events are translated into a {@link DataQuery}, the loaded pages are kept in an LRU
+ * cache keyed by the query so going back to a page does not load it again, a request for a page that is already being
+ * loaded waits for the same request, and a new search or sort cancels the requests of the previous one. Once a page is
+ * shown the adjacent pages are loaded in the background.
+ */
+public class AsyncDataStore<T> implements DataStore<T> {
+
+    private final List<StoreDataChangeListener<T>> listeners = new ArrayList<>();
+    private final PageLoader<T> loader;
+    private final Map<String, PageRequest<T>> requests = new HashMap<>();
+    private Map<String, LoadedPage<T>> cache;
+    private HasPagination pagination;
+    private List<Filter> filters = new ArrayList<>();
+    private String sortBy;
+    private SortDirection sortDirection;
+    private int pageSize = 10;
+    private int prefetchPages = 1;
+    private int paginationTotal = -1;
+    private DataQuery currentQuery;
+    private Consumer<Throwable> loadFailedHandler = error -> {
+    };
+
+    public AsyncDataStore(PageLoader<T> loader) {
+        this.loader = loader;
+        setCacheSize(20);
+    }
+
+    public HasPagination getPagination() {
+        return pagination;
+    }
+
+    public AsyncDataStore<T> setPagination(HasPagination pagination) {
+        this.pagination = pagination;
+        return this;
+    }
+
+    public int getPageSize() {
+        return nonNull(pagination) ? pagination.getPageSize() : pageSize;
+    }
+
+    /**
+     * @param pageSize the records count of a page when the store has no pagination, defaults to 10
+     * @return same store instance
+     */
+    public AsyncDataStore<T> setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+        return this;
+    }
+
+    /**
+     * @param cacheSize the count of the most recently used pages kept in the cache, defaults to 20
+     * @return same store instance
+     */
+    public AsyncDataStore<T> setCacheSize(int cacheSize) {
+        this.cache = new LinkedHashMap<String, LoadedPage<T>>(cacheSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, LoadedPage<T>> eldest) {
+                return size() > cacheSize;
+            }
+        };
+        return this;
+    }
+
+    /**
+     * @param prefetchPages the count of pages before and after the shown page to load in the background, defaults to 1,
+     *                      0 disables the prefetch
+     * @return same store instance
+     */
+    public AsyncDataStore<T> setPrefetchPages(int prefetchPages) {
+        this.prefetchPages = Math.max(0, prefetchPages);
+        return this;
+    }
+
+    public AsyncDataStore<T> setLoadFailedHandler(Consumer<Throwable> loadFailedHandler) {
+        if (nonNull(loadFailedHandler)) {
+            this.loadFailedHandler = loadFailedHandler;
+        }
+        return this;
+    }
+
+    public DataQuery getCurrentQuery() {
+        return currentQuery;
+    }
+
+    /**
+     * Clears the cached pages, the next load, search, sort or page change loads the pages again.
+     */
+    public void invalidateCache() {
+        cache.clear();
+    }
+
+    @Override
+    public void onDataChanged(StoreDataChangeListener<T> dataChangeListener) {
+        listeners.add(dataChangeListener);
+    }
+
+    @Override
+    public void removeDataChangeListener(StoreDataChangeListener<T> dataChangeListener) {
+        listeners.remove(dataChangeListener);
+    }
+
+    /**
+     * Loads the current page again, ignoring the cached pages.
+     */
+    @Override
+    public void load() {
+        invalidateCache();
+        request(query(nonNull(currentQuery) ? currentQuery.getPage() : 1));
+    }
+
+    @Override
+    public HandledEventTypes getHandledEventTypes() {
+        return HandledEventTypes.of(AsyncDataStore.class, SEARCH_EVENT, SORT_EVENT, PAGINATION_EVENT);
+    }
+
+    @Override
+    public void handleEvent(TableEvent event) {
+        switch (event.getType()) {
+            case SEARCH_EVENT:
+                this.filters = new ArrayList<>(((SearchEvent) event).getFilters());
+                request(query(1));
+                break;
+            case SORT_EVENT:
+                SortEvent<T> sortEvent = (SortEvent<T>) event;
+                this.sortBy = sortEvent.getColumnConfig().getName();
+                this.sortDirection = sortEvent.getSortDirection();
+                request(query(1));
+                break;
+            case PAGINATION_EVENT:
+                if (nonNull(pagination)) {
+                    request(query(pagination.activePage()));
+                }
+                break;
+        }
+    }
+
+    private DataQuery query(int page) {
+        return new DataQuery(filters, sortBy, sortDirection, Math.max(1, page), getPageSize());
+    }
+
+    private void request(DataQuery query) {
+        if (!query.isSameSearch(currentQuery)) {
+            new ArrayList<>(requests.values()).forEach(PageRequest::cancel);
+            requests.clear();
+        }
+        this.currentQuery = query;
+        LoadedPage<T> loadedPage = cache.get(query.getKey());
+        if (nonNull(loadedPage)) {
+            showPage(query, loadedPage);
+        } else {
+            fetch(query);
+        }
+    }
+
+    private void fetch(DataQuery query) {
+        if (!requests.containsKey(query.getKey())) {
+            PageRequest<T> request = new PageRequest<>(query, this);
+            requests.put(query.getKey(), request);
+            loader.load(request);
+        }
+    }
+
+    void onPageLoaded(PageRequest<T> request, List<T> records, int totalCount) {
+        DataQuery query = request.getQuery();
+        requests.remove(query.getKey());
+        LoadedPage<T> loadedPage = new LoadedPage<>(new ArrayList<>(records), totalCount);
+        cache.put(query.getKey(), loadedPage);
+        if (nonNull(currentQuery) && query.getKey().equals(currentQuery.getKey())) {
+            showPage(query, loadedPage);
+        }
+    }
+
+    void onPageFailed(PageRequest<T> request, Throwable error) {
+        requests.remove(request.getQuery().getKey());
+        if (nonNull(currentQuery) && request.getQuery().getKey().equals(currentQuery.getKey())) {
+            loadFailedHandler.accept(error);
+        }
+    }
+
+    private void showPage(DataQuery query, LoadedPage<T> loadedPage) {
+        if (nonNull(pagination)) {
+            if (loadedPage.totalCount != paginationTotal) {
+                paginationTotal = loadedPage.totalCount;
+                pagination.updatePagesByTotalCount(loadedPage.totalCount);
+            }
+            if (pagination.activePage() != query.getPage()) {
+                pagination.gotoPage(query.getPage(), true);
+            }
+        }
+        List<T> records = new ArrayList<>(loadedPage.records);
+        listeners.forEach(listener -> listener.onDataChanged(new DataChangedEvent<>(records, loadedPage.totalCount)));
+        prefetch(query, loadedPage.totalCount);
+    }
+
+    private void prefetch(DataQuery query, int totalCount) {
+        int pagesCount = (int) Math.ceil(totalCount / (double) query.getPageSize());
+        for (int distance = 1; distance <= prefetchPages; distance++) {
+            prefetchPage(query, query.getPage() + distance, pagesCount);
+            prefetchPage(query, query.getPage() - distance, pagesCount);
+        }
+    }
+
+    private void prefetchPage(DataQuery query, int page, int pagesCount) {
+        if (page >= 1 && page <= pagesCount) {
+            DataQuery pageQuery = query.withPage(page);
+            if (!cache.containsKey(pageQuery.getKey())) {
+                fetch(pageQuery);
+            }
+        }
+    }
+
+    private static final class LoadedPage<T> {
+        private final List<T> records;
+        private final int totalCount;
+
+        private LoadedPage(List<T> records, int totalCount) {
+            this.records = records;
+            this.totalCount = totalCount;
+        }
+    }
+}
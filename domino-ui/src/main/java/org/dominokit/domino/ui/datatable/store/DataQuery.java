@@ -0,0 +1,99 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import org.dominokit.domino.ui.datatable.model.Filter;
+import org.dominokit.domino.ui.datatable.plugins.SortDirection;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * The search filters, sort and page of a request made by an {@link AsyncDataStore}, two queries with the same key
+ * request the same records.
+ */
+public class DataQuery {
+
+    private final List<Filter> filters;
+    private final String sortBy;
+    private final SortDirection sortDirection;
+    private final int page;
+    private final int pageSize;
+    private final String searchKey;
+    private final String key;
+
+    public DataQuery(List<Filter> filters, String sortBy, SortDirection sortDirection, int page, int pageSize) {
+        this.filters = Collections.unmodifiableList(new ArrayList<>(filters));
+        this.sortBy = sortBy;
+        this.sortDirection = sortDirection;
+        this.page = page;
+        this.pageSize = pageSize;
+        this.searchKey = filtersKey(filters) + "\n" + sortBy + "|" + sortDirection;
+        this.key = searchKey + "\n" + page + "|" + pageSize;
+    }
+
+    public List<Filter> getFilters() {
+        return filters;
+    }
+
+    public String getSortBy() {
+        return sortBy;
+    }
+
+    public SortDirection getSortDirection() {
+        return sortDirection;
+    }
+
+    public boolean isSorted() {
+        return nonNull(sortBy) && nonNull(sortDirection);
+    }
+
+    /**
+     * @return the page number starting from 1
+     */
+    public int getPage() {
+        return page;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    /**
+     * @return the index of the first record of the page
+     */
+    public int getOffset() {
+        return (page - 1) * pageSize;
+    }
+
+    public DataQuery withPage(int page) {
+        return new DataQuery(filters, sortBy, sortDirection, page, pageSize);
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    /**
+     * @return true if the query only differs from the other query by the page
+     */
+    public boolean isSameSearch(DataQuery other) {
+        return nonNull(other) && searchKey.equals(other.searchKey);
+    }
+
+    static String filtersKey(List<Filter> filters) {
+        List<String> keys = new ArrayList<>();
+        for (Filter filter : filters) {
+            keys.add(filter.getFieldName() + "|" + filter.getCategory() + "|" + filter.getType() + "|"
+                    + filter.getOperator().getName() + "|" + filter.getValues());
+        }
+        Collections.sort(keys);
+        return String.join("\n", keys);
+    }
+
+    @Override
+    public String toString() {
+        return key;
+    }
+}
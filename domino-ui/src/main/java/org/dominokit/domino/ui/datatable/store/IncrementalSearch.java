@@ -0,0 +1,159 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.model.Filter;
+import org.dominokit.domino.ui.datatable.model.FilterTypes;
+import org.dominokit.domino.ui.datatable.model.Operator;
+
+import java.util.*;
+import java.util.stream.Collectors;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Keeps the results of the most recent searches of a local store, a repeated search is answered from the cache and a
+ * search that narrows a cached one, e.g a longer text or a tighter range, only filters the records of the cached
+ * result instead of all the records.
+ * <p>
+ * A search narrows another when it has every filter of the other for the same field, category, type and operator with
+ * either the same values, a {@link FilterTypes#STRING} like, contains or starts with value that extends the previous
+ * value, or a numeric or date range that is within the previous range. the {@link SearchFilter} is expected to be
+ * consistent with that.
+ */
+class IncrementalSearch<T> {
+
+    private final Map<String, CachedResult<T>> cache;
+
+    IncrementalSearch(int cacheSize) {
+        this.cache = new LinkedHashMap<String, CachedResult<T>>(cacheSize, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResult<T>> eldest) {
+                return size() > cacheSize;
+            }
+        };
+    }
+
+    List<T> search(SearchEvent event, List<T> records, SearchFilter<T> searchFilter) {
+        List<Filter> filters = event.getFilters();
+        if (filters.isEmpty()) {
+            return new ArrayList<>(records);
+        }
+        List<T> cached = getCached(filters);
+        if (nonNull(cached)) {
+            return cached;
+        }
+        List<T> source = records;
+        for (CachedResult<T> candidate : cache.values()) {
+            if (candidate.records.size() < source.size() && narrows(candidate.filters, filters)) {
+                source = candidate.records;
+            }
+        }
+        List<T> result = source.stream()
+                .filter(record -> searchFilter.filterRecord(event, record))
+                .collect(Collectors.toList());
+        put(filters, result);
+        return new ArrayList<>(result);
+    }
+
+    List<T> getCached(List<Filter> filters) {
+        CachedResult<T> cached = cache.get(keyOf(filters));
+        return nonNull(cached) ? new ArrayList<>(cached.records) : null;
+    }
+
+    void put(List<Filter> filters, List<T> records) {
+        cache.put(keyOf(filters), new CachedResult<>(new ArrayList<>(filters), new ArrayList<>(records)));
+    }
+
+    void clear() {
+        cache.clear();
+    }
+
+    private static String keyOf(List<Filter> filters) {
+        return DataQuery.filtersKey(filters);
+    }
+
+    private static boolean narrows(List<Filter> previous, List<Filter> next) {
+        for (Filter previousFilter : previous) {
+            boolean narrowed = false;
+            for (Filter nextFilter : next) {
+                if (isSameFilter(previousFilter, nextFilter) && narrows(previousFilter, nextFilter)) {
+                    narrowed = true;
+                    break;
+                }
+            }
+            if (!narrowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isSameFilter(Filter previous, Filter next) {
+        return previous.getFieldName().equals(next.getFieldName())
+                && previous.getCategory() == next.getCategory()
+                && previous.getType() == next.getType()
+                && previous.getOperator().equals(next.getOperator());
+    }
+
+    private static boolean narrows(Filter previous, Filter next) {
+        List<String> previousValues = previous.getValues();
+        List<String> nextValues = next.getValues();
+        if (previousValues.equals(nextValues)) {
+            return true;
+        }
+        if (previousValues.isEmpty() || previousValues.size() != nextValues.size()
+                || isNull(previousValues.get(0)) || isNull(nextValues.get(0))) {
+            return false;
+        }
+
+        Operator operator = previous.getOperator();
+        if (FilterTypes.STRING == previous.getType()) {
+            if (previousValues.size() == 1 && (Operator.like.equals(operator)
+                    || Operator.isContains.equals(operator)
+                    || Operator.startsWith.equals(operator))) {
+                return nextValues.get(0).toLowerCase().startsWith(previousValues.get(0).toLowerCase());
+            }
+            return false;
+        }
+
+        if (FilterTypes.BOOLEAN == previous.getType() || FilterTypes.ENUM == previous.getType()) {
+            return false;
+        }
+        Double previousValue = parseNumber(previousValues.get(0));
+        Double nextValue = parseNumber(nextValues.get(0));
+        if (isNull(previousValue) || isNull(nextValue)) {
+            return false;
+        }
+        if (Operator.greaterThan.equals(operator) || Operator.greaterThanOrEquals.equals(operator)) {
+            return nextValue >= previousValue;
+        }
+        if (Operator.lessThan.equals(operator) || Operator.lessThanOrEquals.equals(operator)) {
+            return nextValue <= previousValue;
+        }
+        if (Operator.between.equals(operator) && previousValues.size() > 1) {
+            Double previousTo = parseNumber(previousValues.get(1));
+            Double nextTo = parseNumber(nextValues.get(1));
+            return nonNull(previousTo) && nonNull(nextTo) && nextValue >= previousValue && nextTo <= previousTo;
+        }
+        return false;
+    }
+
+    private static Double parseNumber(String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static final class CachedResult<T> {
+        private final List<Filter> filters;
+        private final List<T> records;
+
+        private CachedResult(List<Filter> filters, List<T> records) {
+            this.filters = filters;
+            this.records = records;
+        }
+    }
+}
@@ -0,0 +1,490 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.model.Filter;
+import org.dominokit.domino.ui.datatable.model.Operator;
+
+import java.util.*;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * A {@link QueryEngine} that indexes the records once using the registered column extractors, a search is then
+ * evaluated by intersecting the rows matched by the index of each filter instead of testing every record.
+ * <p>
+ * Every column keeps its rows sorted by value to answer equality and range operators, text columns also index the
+ * words of their values, a {@link Operator#like} filter on a text column matches the rows that have a word starting
+ * with each word of the filter value, and the {@code *} field does the same on all text columns.
+ * <p>
+ * Filters for columns that are not registered, or with operators the column does not support, are delegated to the
+ * store {@link SearchFilter} for the rows matched by the indexes, if the store has no search filter the query fails
+ * with an {@link IllegalStateException} instead of ignoring those filters.
+ * <pre>
+ *     new LocalListDataStore&lt;Contact&gt;()
+ *             .setQueryEngine(new IndexedQueryEngine&lt;Contact&gt;()
+ *                     .addTextColumn("name", Contact::getName)
+ *                     .addNumberColumn("balance", Contact::getBalance)
+ *                     .addValueColumn("gender", Contact::getGender));
+ * </pre>
+ */
+public class IndexedQueryEngine<T> implements QueryEngine<T> {
+
+    private static final String ALL_FIELDS = "*";
+
+    private final Map<String, SortedColumnIndex<T, ?>> columns = new LinkedHashMap<>();
+    private final List<TextColumnIndex<T>> textColumns = new ArrayList<>();
+    private List<T> records = new ArrayList<>();
+    private boolean indexed = false;
+    private int[] positions = new int[0];
+    private int[] marks = new int[0];
+    private int stamp = 0;
+
+    public IndexedQueryEngine<T> addTextColumn(String name, Function<T, String> extractor) {
+        TextColumnIndex<T> column = new TextColumnIndex<>(extractor);
+        textColumns.add(column);
+        return addColumn(name, column);
+    }
+
+    public IndexedQueryEngine<T> addNumberColumn(String name, Function<T, ? extends Number> extractor) {
+        return addColumn(name, new SortedColumnIndex<T, Double>(record -> {
+            Number value = extractor.apply(record);
+            return isNull(value) ? null : value.doubleValue();
+        }, IndexedQueryEngine::parseNumber));
+    }
+
+    public IndexedQueryEngine<T> addDateColumn(String name, Function<T, Date> extractor) {
+        return addColumn(name, new SortedColumnIndex<T, Double>(record -> {
+            Date value = extractor.apply(record);
+            return isNull(value) ? null : (double) value.getTime();
+        }, IndexedQueryEngine::parseNumber));
+    }
+
+    public IndexedQueryEngine<T> addValueColumn(String name, Function<T, ?> extractor) {
+        return addColumn(name, new SortedColumnIndex<T, String>(record -> {
+            Object value = extractor.apply(record);
+            return isNull(value) ? null : String.valueOf(value);
+        }, value -> value));
+    }
+
+    private IndexedQueryEngine<T> addColumn(String name, SortedColumnIndex<T, ?> column) {
+        SortedColumnIndex<T, ?> previous = columns.put(name, column);
+        if (nonNull(previous)) {
+            textColumns.remove(previous);
+        }
+        this.indexed = false;
+        return this;
+    }
+
+    @Override
+    public void setRecords(List<T> records) {
+        this.records = nonNull(records) ? records : new ArrayList<>();
+        this.indexed = false;
+    }
+
+    @Override
+    public int[] getPositions() {
+        return positions;
+    }
+
+    private void ensureIndexed() {
+        if (!indexed || positions.length != records.size()) {
+            if (positions.length != records.size()) {
+                positions = new int[records.size()];
+                marks = new int[records.size()];
+                stamp = 0;
+            }
+            columns.values().forEach(column -> column.build(records));
+            indexed = true;
+        }
+    }
+
+    @Override
+    public int query(List<Filter> filters, SearchFilter<T> fallbackFilter) {
+        ensureIndexed();
+        List<Match> required = new ArrayList<>();
+        List<Match> excluded = new ArrayList<>();
+        List<Filter> residual = new ArrayList<>();
+        for (Filter filter : filters) {
+            List<Match> matches = match(filter);
+            if (isNull(matches)) {
+                if (isNull(fallbackFilter)) {
+                    throw new IllegalStateException("Filter on field [" + filter.getFieldName() + "] with operator ["
+                            + filter.getOperator() + "] cannot be evaluated by the index and the store has no search filter");
+                }
+                residual.add(filter);
+            } else {
+                matches.forEach(match -> (match.excluding ? excluded : required).add(match));
+            }
+        }
+
+        required.sort(Comparator.comparingInt(Match::size));
+        int count = required.isEmpty() ? selectAll() : select(required.get(0));
+        for (int i = 1; i < required.size() && count > 0; i++) {
+            count = retain(required.get(i), count, true);
+        }
+        for (int i = 0; i < excluded.size() && count > 0; i++) {
+            count = retain(excluded.get(i), count, false);
+        }
+        if (!residual.isEmpty() && count > 0) {
+            count = retainFiltered(new SearchEvent(residual), fallbackFilter, count);
+        }
+        return count;
+    }
+
+    private List<Match> match(Filter filter) {
+        if (ALL_FIELDS.equals(filter.getFieldName())) {
+            return textColumns.isEmpty() ? null : matchWords(filter, textColumns);
+        }
+        SortedColumnIndex<T, ?> column = columns.get(filter.getFieldName());
+        return isNull(column) ? null : column.match(filter);
+    }
+
+    private int selectAll() {
+        for (int i = 0; i < records.size(); i++) {
+            positions[i] = i;
+        }
+        return records.size();
+    }
+
+    private int select(Match match) {
+        stamp++;
+        int count = 0;
+        for (Hits hits : match.hits) {
+            for (int i = hits.from; i < hits.to; i++) {
+                int position = hits.positions[i];
+                if (marks[position] != stamp) {
+                    marks[position] = stamp;
+                    positions[count++] = position;
+                }
+            }
+        }
+        Arrays.sort(positions, 0, count);
+        return count;
+    }
+
+    private int retain(Match match, int count, boolean marked) {
+        stamp++;
+        for (Hits hits : match.hits) {
+            for (int i = hits.from; i < hits.to; i++) {
+                marks[hits.positions[i]] = stamp;
+            }
+        }
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            int position = positions[i];
+            if ((marks[position] == stamp) == marked) {
+                positions[kept++] = position;
+            }
+        }
+        return kept;
+    }
+
+    private int retainFiltered(SearchEvent event, SearchFilter<T> searchFilter, int count) {
+        int kept = 0;
+        for (int i = 0; i < count; i++) {
+            int position = positions[i];
+            if (searchFilter.filterRecord(event, records.get(position))) {
+                positions[kept++] = position;
+            }
+        }
+        return kept;
+    }
+
+    private static <T> List<Match> matchWords(Filter filter, List<TextColumnIndex<T>> textColumns) {
+        if (!Operator.like.equals(filter.getOperator()) && !Operator.isContains.equals(filter.getOperator())) {
+            return null;
+        }
+        List<Match> matches = new ArrayList<>();
+        for (String value : filter.getValues()) {
+            for (String word : words(value)) {
+                Match match = new Match(false);
+                textColumns.forEach(column -> column.matchWordPrefix(word, match));
+                matches.add(match);
+            }
+        }
+        return matches;
+    }
+
+    static List<String> words(String value) {
+        List<String> words = new ArrayList<>();
+        if (isNull(value)) {
+            return words;
+        }
+        String lowerCase = value.toLowerCase();
+        int start = -1;
+        for (int i = 0; i <= lowerCase.length(); i++) {
+            boolean wordChar = i < lowerCase.length() && Character.isLetterOrDigit(lowerCase.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                words.add(lowerCase.substring(start, i));
+                start = -1;
+            }
+        }
+        return words;
+    }
+
+    private static Double parseNumber(String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static <K extends Comparable<K>> int lowerBound(List<K> keys, K key) {
+        int low = 0;
+        int high = keys.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys.get(middle).compareTo(key) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static <K extends Comparable<K>> int upperBound(List<K> keys, K key) {
+        int low = 0;
+        int high = keys.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (keys.get(middle).compareTo(key) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private static <T> List<T> single(T item) {
+        List<T> items = new ArrayList<>();
+        items.add(item);
+        return items;
+    }
+
+    private static class SortedColumnIndex<T, K extends Comparable<K>> {
+
+        private final Function<T, K> keyExtractor;
+        private final Function<String, K> valueParser;
+        protected List<K> keys = new ArrayList<>();
+        protected int[] sortedPositions = new int[0];
+        protected int[] nullPositions = new int[0];
+
+        private SortedColumnIndex(Function<T, K> keyExtractor, Function<String, K> valueParser) {
+            this.keyExtractor = keyExtractor;
+            this.valueParser = valueParser;
+        }
+
+        protected void build(List<T> records) {
+            List<K> recordKeys = new ArrayList<>(records.size());
+            List<Integer> nonNullPositions = new ArrayList<>(records.size());
+            IntArray nulls = new IntArray();
+            for (int position = 0; position < records.size(); position++) {
+                K key = keyExtractor.apply(records.get(position));
+                recordKeys.add(key);
+                if (isNull(key)) {
+                    nulls.add(position);
+                } else {
+                    nonNullPositions.add(position);
+                    onKey(position, key);
+                }
+            }
+            nonNullPositions.sort((first, second) -> recordKeys.get(first).compareTo(recordKeys.get(second)));
+
+            keys = new ArrayList<>(nonNullPositions.size());
+            sortedPositions = new int[nonNullPositions.size()];
+            for (int i = 0; i < nonNullPositions.size(); i++) {
+                int position = nonNullPositions.get(i);
+                sortedPositions[i] = position;
+                keys.add(recordKeys.get(position));
+            }
+            nullPositions = nulls.toArray();
+        }
+
+        protected void onKey(int position, K key) {
+        }
+
+        protected List<Match> match(Filter filter) {
+            Operator operator = filter.getOperator();
+            if (Operator.is_Null.equals(operator)) {
+                return single(new Match(false).add(nullPositions, 0, nullPositions.length));
+            }
+            if (Operator.isNotNull.equals(operator)) {
+                return single(new Match(false).add(sortedPositions, 0, sortedPositions.length));
+            }
+
+            List<K> values = parseValues(filter);
+            if (isNull(values)) {
+                return null;
+            }
+            if (values.isEmpty()) {
+                return new ArrayList<>();
+            }
+
+            K value = values.get(0);
+            if (Operator.isEqualTo.equals(operator) || Operator.like.equals(operator) || Operator.containsAny.equals(operator)) {
+                Match match = new Match(false);
+                values.forEach(equalValue -> match.add(sortedPositions, lowerBound(keys, equalValue), upperBound(keys, equalValue)));
+                return single(match);
+            }
+            if (Operator.notEquals.equals(operator)) {
+                return single(new Match(true)
+                        .add(nullPositions, 0, nullPositions.length)
+                        .add(sortedPositions, lowerBound(keys, value), upperBound(keys, value)));
+            }
+            if (Operator.lessThan.equals(operator)) {
+                return single(new Match(false).add(sortedPositions, 0, lowerBound(keys, value)));
+            }
+            if (Operator.lessThanOrEquals.equals(operator)) {
+                return single(new Match(false).add(sortedPositions, 0, upperBound(keys, value)));
+            }
+            if (Operator.greaterThan.equals(operator)) {
+                return single(new Match(false).add(sortedPositions, upperBound(keys, value), sortedPositions.length));
+            }
+            if (Operator.greaterThanOrEquals.equals(operator)) {
+                return single(new Match(false).add(sortedPositions, lowerBound(keys, value), sortedPositions.length));
+            }
+            if (Operator.between.equals(operator) && values.size() > 1) {
+                return single(new Match(false).add(sortedPositions, lowerBound(keys, value), upperBound(keys, values.get(1))));
+            }
+            return null;
+        }
+
+        private List<K> parseValues(Filter filter) {
+            List<K> values = new ArrayList<>();
+            for (String value : filter.getValues()) {
+                if (nonNull(value) && !value.trim().isEmpty()) {
+                    K parsed = valueParser.apply(value);
+                    if (isNull(parsed)) {
+                        return null;
+                    }
+                    values.add(parsed);
+                }
+            }
+            return values;
+        }
+    }
+
+    private static class TextColumnIndex<T> extends SortedColumnIndex<T, String> {
+
+        private Map<String, IntArray> wordPositions;
+        private List<String> sortedWords = new ArrayList<>();
+        private int[][] postings = new int[0][];
+
+        private TextColumnIndex(Function<T, String> extractor) {
+            super(record -> {
+                String value = extractor.apply(record);
+                return isNull(value) ? null : value.toLowerCase();
+            }, String::toLowerCase);
+        }
+
+        @Override
+        protected void build(List<T> records) {
+            wordPositions = new HashMap<>();
+            super.build(records);
+
+            String[] sortedWords = wordPositions.keySet().toArray(new String[0]);
+            Arrays.sort(sortedWords);
+            this.sortedWords = Arrays.asList(sortedWords);
+            postings = new int[sortedWords.length][];
+            for (int i = 0; i < sortedWords.length; i++) {
+                postings[i] = wordPositions.get(sortedWords[i]).toArray();
+            }
+            wordPositions = null;
+        }
+
+        @Override
+        protected void onKey(int position, String key) {
+            for (String word : words(key)) {
+                IntArray wordRows = wordPositions.computeIfAbsent(word, w -> new IntArray());
+                if (wordRows.last() != position) {
+                    wordRows.add(position);
+                }
+            }
+        }
+
+        private void matchWordPrefix(String prefix, Match match) {
+            for (int i = lowerBound(sortedWords, prefix); i < sortedWords.size() && sortedWords.get(i).startsWith(prefix); i++) {
+                match.add(postings[i], 0, postings[i].length);
+            }
+        }
+
+        @Override
+        protected List<Match> match(Filter filter) {
+            if (Operator.like.equals(filter.getOperator()) || Operator.isContains.equals(filter.getOperator())) {
+                return matchWords(filter, Collections.singletonList(this));
+            }
+            if (Operator.startsWith.equals(filter.getOperator())) {
+                if (filter.getValues().isEmpty() || isNull(filter.getValues().get(0)) || filter.getValues().get(0).isEmpty()) {
+                    return new ArrayList<>();
+                }
+                String prefix = filter.getValues().get(0).toLowerCase();
+                return single(new Match(false).add(sortedPositions, lowerBound(keys, prefix), lowerBound(keys, prefix + '\uffff')));
+            }
+            return super.match(filter);
+        }
+    }
+
+    private static final class Match {
+
+        private final boolean excluding;
+        private final List<Hits> hits = new ArrayList<>();
+        private int size = 0;
+
+        private Match(boolean excluding) {
+            this.excluding = excluding;
+        }
+
+        private Match add(int[] positions, int from, int to) {
+            if (to > from) {
+                hits.add(new Hits(positions, from, to));
+                size += to - from;
+            }
+            return this;
+        }
+
+        private int size() {
+            return size;
+        }
+    }
+
+    private static final class Hits {
+
+        private final int[] positions;
+        private final int from;
+        private final int to;
+
+        private Hits(int[] positions, int from, int to) {
+            this.positions = positions;
+            this.from = from;
+            this.to = to;
+        }
+    }
+
+    private static final class IntArray {
+
+        private int[] values = new int[4];
+        private int size = 0;
+
+        private void add(int value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        private int last() {
+            return size == 0 ? -1 : values[size - 1];
+        }
+
+        private int[] toArray() {
+            return Arrays.copyOf(values, size);
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package org.dominokit.domino.ui.datatable.store;
 
 import elemental2.dom.DomGlobal;
+import org.dominokit.domino.ui.datatable.events.HandledEventTypes;
+import org.dominokit.domino.ui.datatable.events.RowsUpdatedEvent;
 import org.dominokit.domino.ui.datatable.events.SearchEvent;
 import org.dominokit.domino.ui.datatable.events.SortEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
@@ -13,6 +15,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 import static java.util.Objects.nonNull;
+import static org.dominokit.domino.ui.datatable.events.RowsUpdatedEvent.ROWS_UPDATED;
 import static org.dominokit.domino.ui.datatable.events.SearchEvent.SEARCH_EVENT;
 import static org.dominokit.domino.ui.datatable.events.SortEvent.SORT_EVENT;
 import static org.dominokit.domino.ui.datatable.events.TablePageChangeEvent.PAGINATION_EVENT;
@@ -26,7 +29,11 @@ public class LocalListDataStore<T> implements DataStore<T> {
     private HasPagination pagination;
     private SearchFilter<T> searchFilter;
     private RecordsSorter<T> recordsSorter;
-    private SortEvent<T> lastSort;
+    private QueryEngine<T> queryEngine;
+    private final IncrementalSearch<T> searchResults = new IncrementalSearch<>(10);
+    private boolean incrementalSearch = false;
+    private final LocalRecordsSorter<T> sorter = new LocalRecordsSorter<>();
+    private boolean filteredSorted = false;
     private boolean autoSort = false;
     private String autoSortBy = "*";
     private SortDirection autoSortDirection = SortDirection.ASC;
@@ -47,6 +54,9 @@ public class LocalListDataStore<T> implements DataStore<T> {
         this.original.addAll(data);
         this.filtered.clear();
         this.filtered.addAll(original);
+        this.filteredSorted = false;
+        this.sorter.invalidate();
+        onRecordsChanged();
         load();
     }
 
@@ -74,6 +84,49 @@ public class LocalListDataStore<T> implements DataStore<T> {
         return this;
     }
 
+    public QueryEngine<T> getQueryEngine() {
+        return queryEngine;
+    }
+
+    /**
+     * Sets the engine used to evaluate the search events instead of testing every record with the {@link SearchFilter},
+     * the search filter is still used by the engine for the filters it cannot evaluate.
+     *
+     * @param queryEngine the {@link QueryEngine}, e.g {@link IndexedQueryEngine}
+     * @return same store instance
+     */
+    public LocalListDataStore<T> setQueryEngine(QueryEngine<T> queryEngine) {
+        this.queryEngine = queryEngine;
+        onRecordsChanged();
+        return this;
+    }
+
+    public boolean isIncrementalSearch() {
+        return incrementalSearch;
+    }
+
+    /**
+     * When enabled the results of the recent searches are cached and a search that narrows a previous one, like typing
+     * more characters, only filters the previous results, disabled by default since it is only correct when the
+     * {@link SearchFilter} matches the like, contains and starts with filters as a substring of the record values, a
+     * filter that matches whole words or exact values may match records that were not in the previous results.
+     *
+     * @param incrementalSearch boolean
+     * @return same store instance
+     */
+    public LocalListDataStore<T> setIncrementalSearch(boolean incrementalSearch) {
+        this.incrementalSearch = incrementalSearch;
+        searchResults.clear();
+        return this;
+    }
+
+    private void onRecordsChanged() {
+        searchResults.clear();
+        if (nonNull(queryEngine)) {
+            queryEngine.setRecords(original);
+        }
+    }
+
     public HasPagination getPagination() {
         return pagination;
     }
@@ -89,6 +142,36 @@ public class LocalListDataStore<T> implements DataStore<T> {
 
     public LocalListDataStore<T> setRecordsSorter(RecordsSorter<T> recordsSorter) {
         this.recordsSorter = recordsSorter;
+        this.sorter.setRecordsSorter(recordsSorter);
+        return this;
+    }
+
+    /**
+     * Sets the provider of the sort keys, when set the records are sorted by keys computed once per record and column
+     * instead of the {@link RecordsSorter} comparators.
+     *
+     * @param sortKeyProvider {@link SortKeyProvider}
+     * @return same store instance
+     */
+    public LocalListDataStore<T> setSortKeyProvider(SortKeyProvider<T> sortKeyProvider) {
+        this.sorter.setSortKeyProvider(sortKeyProvider);
+        this.filteredSorted = false;
+        return this;
+    }
+
+    public int getSortColumnsLimit() {
+        return sorter.getSortColumnsLimit();
+    }
+
+    /**
+     * Sets how many of the most recent sort columns are used to order the records, the latest sorted column is the
+     * primary order and the previous ones break its ties, defaults to 3.
+     *
+     * @param sortColumnsLimit int
+     * @return same store instance
+     */
+    public LocalListDataStore<T> setSortColumnsLimit(int sortColumnsLimit) {
+        this.sorter.setSortColumnsLimit(sortColumnsLimit);
         return this;
     }
 
@@ -108,6 +191,11 @@ public class LocalListDataStore<T> implements DataStore<T> {
         listeners.remove(dataChangeListener);
     }
 
+    @Override
+    public HandledEventTypes getHandledEventTypes() {
+        return HandledEventTypes.of(LocalListDataStore.class, SEARCH_EVENT, SORT_EVENT, PAGINATION_EVENT, ROWS_UPDATED);
+    }
+
     @Override
     public void handleEvent(TableEvent event) {
         switch (event.getType()) {
@@ -120,29 +208,58 @@ public class LocalListDataStore<T> implements DataStore<T> {
             case PAGINATION_EVENT:
                 onPageChanged();
                 break;
+            case ROWS_UPDATED:
+                ((RowsUpdatedEvent<T>) event).getRecords().forEach(sorter::invalidate);
+                onRecordsChanged();
+                break;
         }
     }
 
     private void onSearchChanged(SearchEvent event) {
-        if (nonNull(searchFilter)) {
-            filtered = original.stream().filter(record -> searchFilter.filterRecord(event, record)).collect(Collectors.toList());
-            if (nonNull(lastSort)) {
-                sort(lastSort);
+        if (nonNull(queryEngine)) {
+            List<T> cached = incrementalSearch ? searchResults.getCached(event.getFilters()) : null;
+            filtered = nonNull(cached) ? cached : queryRecords(event);
+            onFilteredChanged();
+        } else if (nonNull(searchFilter)) {
+            if (incrementalSearch) {
+                filtered = searchResults.search(event, original, searchFilter);
+            } else {
+                filtered = original.stream().filter(record -> searchFilter.filterRecord(event, record)).collect(Collectors.toList());
             }
-            loadFirstPage();
+            onFilteredChanged();
         }
     }
 
+    private List<T> queryRecords(SearchEvent event) {
+        int count = queryEngine.query(event.getFilters(), searchFilter);
+        int[] positions = queryEngine.getPositions();
+        List<T> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(original.get(positions[i]));
+        }
+        if (incrementalSearch) {
+            searchResults.put(event.getFilters(), result);
+        }
+        return result;
+    }
+
+    private void onFilteredChanged() {
+        filteredSorted = false;
+        loadFirstPage();
+    }
+
     private void onSortChanged(SortEvent<T> event) {
-        if (nonNull(this.recordsSorter)) {
-            this.lastSort = event;
-            sort(event);
+        if (sorter.canSort()) {
+            if (sorter.sortBy(event.getColumnConfig().getName(), event.getSortDirection()) || !filteredSorted) {
+                sortFiltered();
+            }
             fireUpdate(false);
         }
     }
 
-    private void sort(SortEvent<T> event) {
-        filtered.sort(recordsSorter.onSortChange(event.getColumnConfig().getName(), event.getSortDirection()));
+    private void sortFiltered() {
+        sorter.sort(filtered);
+        filteredSorted = true;
     }
 
     private void loadFirstPage() {
@@ -163,14 +280,13 @@ public class LocalListDataStore<T> implements DataStore<T> {
     }
 
     private void fireUpdate(boolean applySort) {
-        List<T> updateRecords = getUpdateRecords();
-        if(applySort) {
-            if (nonNull(this.lastSort) && nonNull(recordsSorter)) {
-                updateRecords.sort(recordsSorter.onSortChange(this.lastSort.getColumnConfig().getName(), this.lastSort.getSortDirection()));
-            } else if (autoSort && nonNull(recordsSorter)) {
-                updateRecords.sort(recordsSorter.onSortChange(autoSortBy, autoSortDirection));
+        if (applySort && !filteredSorted) {
+            if (autoSort && !sorter.hasSortColumns()) {
+                sorter.sortBy(autoSortBy, autoSortDirection);
             }
+            sortFiltered();
         }
+        List<T> updateRecords = getUpdateRecords();
         if (!autSortApplied) {
             autSortApplied = true;
             listeners.forEach(dataChangeListener -> dataChangeListener.onDataChanged(new DataChangedEvent<>(updateRecords, filtered.size(), autoSortDirection, autoSortBy)));
@@ -199,6 +315,8 @@ public class LocalListDataStore<T> implements DataStore<T> {
         if (original.contains(record)) {
             original.remove(record);
             filtered.remove(record);
+            sorter.invalidate(record);
+            onRecordsChanged();
             load();
         }
     }
@@ -212,6 +330,8 @@ public class LocalListDataStore<T> implements DataStore<T> {
     public void removeRecord(Collection<T> records) {
         original.removeAll(records);
         filtered.removeAll(records);
+        records.forEach(sorter::invalidate);
+        onRecordsChanged();
         load();
     }
 
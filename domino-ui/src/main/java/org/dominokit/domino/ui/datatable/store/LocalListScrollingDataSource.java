@@ -1,6 +1,8 @@
 package org.dominokit.domino.ui.datatable.store;
 
 import org.dominokit.domino.ui.datatable.events.BodyScrollEvent;
+import org.dominokit.domino.ui.datatable.events.HandledEventTypes;
+import org.dominokit.domino.ui.datatable.events.RowsUpdatedEvent;
 import org.dominokit.domino.ui.datatable.events.SearchEvent;
 import org.dominokit.domino.ui.datatable.events.SortEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
@@ -12,6 +14,7 @@ import java.util.stream.Collectors;
 
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.datatable.events.BodyScrollEvent.BODY_SCROLL;
+import static org.dominokit.domino.ui.datatable.events.RowsUpdatedEvent.ROWS_UPDATED;
 import static org.dominokit.domino.ui.datatable.events.SortEvent.SORT_EVENT;
 import static org.dominokit.domino.ui.datatable.events.SearchEvent.SEARCH_EVENT;
 
@@ -24,7 +27,10 @@ public class LocalListScrollingDataSource<T> implements DataStore<T> {
     private List<StoreDataChangeListener<T>> listeners = new ArrayList<>();
     private SearchFilter<T> searchFilter;
     private RecordsSorter<T> recordsSorter;
-    private SortEvent<T> lastSort;
+    private final LocalRecordsSorter<T> sorter = new LocalRecordsSorter<>();
+    private boolean filteredSorted = false;
+    private final IncrementalSearch<T> searchResults = new IncrementalSearch<>(10);
+    private boolean incrementalSearch = false;
 
     public LocalListScrollingDataSource(int pageSize) {
         this.original = new ArrayList<>();
@@ -51,14 +57,65 @@ public class LocalListScrollingDataSource<T> implements DataStore<T> {
 
     public LocalListScrollingDataSource<T> setRecordsSorter(RecordsSorter<T> recordsSorter) {
         this.recordsSorter = recordsSorter;
+        this.sorter.setRecordsSorter(recordsSorter);
+        return this;
+    }
+
+    /**
+     * Sets the provider of the sort keys, when set the records are sorted by keys computed once per record and column
+     * instead of the {@link RecordsSorter} comparators.
+     *
+     * @param sortKeyProvider {@link SortKeyProvider}
+     * @return same store instance
+     */
+    public LocalListScrollingDataSource<T> setSortKeyProvider(SortKeyProvider<T> sortKeyProvider) {
+        this.sorter.setSortKeyProvider(sortKeyProvider);
+        this.filteredSorted = false;
+        return this;
+    }
+
+    public int getSortColumnsLimit() {
+        return sorter.getSortColumnsLimit();
+    }
+
+    /**
+     * Sets how many of the most recent sort columns are used to order the records, defaults to 3.
+     *
+     * @param sortColumnsLimit int
+     * @return same store instance
+     */
+    public LocalListScrollingDataSource<T> setSortColumnsLimit(int sortColumnsLimit) {
+        this.sorter.setSortColumnsLimit(sortColumnsLimit);
+        return this;
+    }
+
+    public boolean isIncrementalSearch() {
+        return incrementalSearch;
+    }
+
+    /**
+     * When enabled the results of the recent searches are cached and a search that narrows a previous one only
+     * filters the previous results, disabled by default since it is only correct when the {@link SearchFilter} matches
+     * the like, contains and starts with filters as a substring of the record values, a filter that matches whole words
+     * or exact values may match records that were not in the previous results.
+     *
+     * @param incrementalSearch boolean
+     * @return same store instance
+     */
+    public LocalListScrollingDataSource<T> setIncrementalSearch(boolean incrementalSearch) {
+        this.incrementalSearch = incrementalSearch;
+        searchResults.clear();
         return this;
     }
 
     public void setData(List<T> data){
+        this.searchResults.clear();
+        this.sorter.invalidate();
         this.original.clear();
         this.original.addAll(data);
         this.filtered.clear();
         this.filtered.addAll(original);
+        this.filteredSorted = false;
     }
 
     @Override
@@ -74,6 +131,9 @@ public class LocalListScrollingDataSource<T> implements DataStore<T> {
     @Override
     public void load() {
         pageIndex = 0;
+        if (!filteredSorted) {
+            sortFiltered();
+        }
         fireUpdate(false);
     }
 
@@ -84,6 +144,11 @@ public class LocalListScrollingDataSource<T> implements DataStore<T> {
         listeners.forEach(dataChangeListener -> dataChangeListener.onDataChanged(new DataChangedEvent<>(new ArrayList<>(filtered.subList(fromIndex, toIndex)), append, filtered.size())));
     }
 
+    @Override
+    public HandledEventTypes getHandledEventTypes() {
+        return HandledEventTypes.of(LocalListScrollingDataSource.class, BODY_SCROLL, SORT_EVENT, SEARCH_EVENT, ROWS_UPDATED);
+    }
+
     @Override
     public void handleEvent(TableEvent event) {
         switch (event.getType()) {
@@ -96,6 +161,10 @@ public class LocalListScrollingDataSource<T> implements DataStore<T> {
             case SEARCH_EVENT:
                 onSearch((SearchEvent) event);
                 break;
+            case ROWS_UPDATED:
+                ((RowsUpdatedEvent<T>) event).getRecords().forEach(sorter::invalidate);
+                searchResults.clear();
+                break;
         }
     }
 
@@ -112,25 +181,32 @@ public class LocalListScrollingDataSource<T> implements DataStore<T> {
 
     private void onSearch(SearchEvent event) {
         if(nonNull(searchFilter)){
-            filtered=original.stream().filter(t -> searchFilter.filterRecord(event, t)).collect(Collectors.toList());
-            if(nonNull(lastSort)){
-                onSort(lastSort);
-            }else {
-                pageIndex = 0;
-                fireUpdate(false);
+            if (incrementalSearch) {
+                filtered = searchResults.search(event, original, searchFilter);
+            } else {
+                filtered = original.stream().filter(t -> searchFilter.filterRecord(event, t)).collect(Collectors.toList());
             }
+            sortFiltered();
+            pageIndex = 0;
+            fireUpdate(false);
         }
     }
 
     private void onSort(SortEvent<T> event) {
-        if(nonNull(this.recordsSorter)){
-            this.lastSort=event;
-            filtered.sort(recordsSorter.onSortChange(event.getColumnConfig().getName(), event.getSortDirection()));
-            pageIndex=0;
+        if (sorter.canSort()) {
+            if (sorter.sortBy(event.getColumnConfig().getName(), event.getSortDirection()) || !filteredSorted) {
+                sortFiltered();
+            }
+            pageIndex = 0;
             fireUpdate(false);
         }
     }
 
+    private void sortFiltered() {
+        sorter.sort(filtered);
+        filteredSorted = true;
+    }
+
     public List<T> getFiltered() {
         return new ArrayList<>(filtered);
     }
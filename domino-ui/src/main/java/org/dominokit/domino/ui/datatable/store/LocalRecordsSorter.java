@@ -0,0 +1,171 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import org.dominokit.domino.ui.datatable.plugins.SortDirection;
+
+import java.util.*;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Sorts the records of a local store by the most recent sort columns, the latest column is the primary order and the
+ * previous columns break its ties, the sort is stable so records that are equal on all the columns keep their order.
+ * <p>
+ * With a {@link SortKeyProvider} the key of each record is computed once per column and cached until the records
+ * change, the records are then sorted by their keys, otherwise the {@link RecordsSorter} comparators are used.
+ */
+class LocalRecordsSorter<T> {
+
+    private final List<SortColumn> sortColumns = new ArrayList<>();
+    private final Map<String, Map<T, Comparable<?>>> keysCache = new HashMap<>();
+    private final Map<String, Comparator<T>> comparatorsCache = new HashMap<>();
+    private SortKeyProvider<T> sortKeyProvider;
+    private RecordsSorter<T> recordsSorter;
+    private int sortColumnsLimit = 3;
+
+    void setSortKeyProvider(SortKeyProvider<T> sortKeyProvider) {
+        this.sortKeyProvider = sortKeyProvider;
+        keysCache.clear();
+    }
+
+    void setRecordsSorter(RecordsSorter<T> recordsSorter) {
+        this.recordsSorter = recordsSorter;
+        comparatorsCache.clear();
+    }
+
+    void setSortColumnsLimit(int sortColumnsLimit) {
+        this.sortColumnsLimit = Math.max(1, sortColumnsLimit);
+        while (sortColumns.size() > this.sortColumnsLimit) {
+            sortColumns.remove(sortColumns.size() - 1);
+        }
+    }
+
+    int getSortColumnsLimit() {
+        return sortColumnsLimit;
+    }
+
+    boolean canSort() {
+        return nonNull(sortKeyProvider) || nonNull(recordsSorter);
+    }
+
+    boolean hasSortColumns() {
+        return !sortColumns.isEmpty();
+    }
+
+    /**
+     * Makes the column the primary sort column.
+     *
+     * @return false if the column was already the primary sort column with the same direction
+     */
+    boolean sortBy(String sortBy, SortDirection sortDirection) {
+        if (!sortColumns.isEmpty()) {
+            SortColumn primary = sortColumns.get(0);
+            if (primary.sortBy.equals(sortBy) && primary.sortDirection == sortDirection) {
+                return false;
+            }
+        }
+        sortColumns.removeIf(sortColumn -> sortColumn.sortBy.equals(sortBy));
+        sortColumns.add(0, new SortColumn(sortBy, sortDirection));
+        if (sortColumns.size() > sortColumnsLimit) {
+            sortColumns.remove(sortColumns.size() - 1);
+        }
+        return true;
+    }
+
+    void invalidate() {
+        keysCache.clear();
+    }
+
+    void invalidate(T record) {
+        keysCache.values().forEach(keys -> keys.remove(record));
+    }
+
+    void sort(List<T> records) {
+        if (sortColumns.isEmpty() || records.size() < 2 || !canSort()) {
+            return;
+        }
+        if (nonNull(sortKeyProvider)) {
+            sortByKeys(records);
+        } else {
+            records.sort(comparator());
+        }
+    }
+
+    private void sortByKeys(List<T> records) {
+        List<Map<T, Comparable<?>>> columnsKeys = new ArrayList<>();
+        sortColumns.forEach(sortColumn -> columnsKeys.add(keysCache.computeIfAbsent(sortColumn.sortBy, sortBy -> new IdentityHashMap<>())));
+
+        List<KeyedRecord<T>> keyedRecords = new ArrayList<>(records.size());
+        for (T record : records) {
+            Comparable<?>[] keys = new Comparable<?>[sortColumns.size()];
+            for (int column = 0; column < keys.length; column++) {
+                Map<T, Comparable<?>> columnKeys = columnsKeys.get(column);
+                Comparable<?> key = columnKeys.get(record);
+                if (isNull(key) && !columnKeys.containsKey(record)) {
+                    key = sortKeyProvider.getSortKey(sortColumns.get(column).sortBy, record);
+                    columnKeys.put(record, key);
+                }
+                keys[column] = key;
+            }
+            keyedRecords.add(new KeyedRecord<>(record, keys));
+        }
+
+        keyedRecords.sort(this::compareKeys);
+        for (int i = 0; i < keyedRecords.size(); i++) {
+            records.set(i, keyedRecords.get(i).record);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private int compareKeys(KeyedRecord<T> first, KeyedRecord<T> second) {
+        for (int column = 0; column < first.keys.length; column++) {
+            Comparable<Object> firstKey = (Comparable<Object>) first.keys[column];
+            Comparable<Object> secondKey = (Comparable<Object>) second.keys[column];
+            int result;
+            if (firstKey == secondKey) {
+                result = 0;
+            } else if (isNull(firstKey)) {
+                result = -1;
+            } else if (isNull(secondKey)) {
+                result = 1;
+            } else {
+                result = firstKey.compareTo(secondKey);
+            }
+            if (result != 0) {
+                return SortDirection.DESC == sortColumns.get(column).sortDirection ? -result : result;
+            }
+        }
+        return 0;
+    }
+
+    private Comparator<T> comparator() {
+        Comparator<T> comparator = null;
+        for (SortColumn sortColumn : sortColumns) {
+            String cacheKey = sortColumn.sortBy + "|" + sortColumn.sortDirection;
+            Comparator<T> columnComparator = comparatorsCache.computeIfAbsent(cacheKey,
+                    key -> recordsSorter.onSortChange(sortColumn.sortBy, sortColumn.sortDirection));
+            comparator = isNull(comparator) ? columnComparator : comparator.thenComparing(columnComparator);
+        }
+        return comparator;
+    }
+
+    private static final class SortColumn {
+        private final String sortBy;
+        private final SortDirection sortDirection;
+
+        private SortColumn(String sortBy, SortDirection sortDirection) {
+            this.sortBy = sortBy;
+            this.sortDirection = sortDirection;
+        }
+    }
+
+    private static final class KeyedRecord<T> {
+        private final T record;
+        private final Comparable<?>[] keys;
+
+        private KeyedRecord(T record, Comparable<?>[] keys) {
+            this.record = record;
+            this.keys = keys;
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package org.dominokit.domino.ui.datatable.store;
+
+/**
+ * Loads the records of a page for an {@link AsyncDataStore}, the loader completes the request when the records are
+ * received and can register an abort handler on the request to cancel the underlying call when the request is
+ * superseded.
+ */
+@FunctionalInterface
+public interface PageLoader<T> {
+    void load(PageRequest<T> request);
+}
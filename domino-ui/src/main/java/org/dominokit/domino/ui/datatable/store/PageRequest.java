@@ -0,0 +1,68 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A page request made by an {@link AsyncDataStore} to its {@link PageLoader}, completing or failing a canceled
+ * request has no effect.
+ */
+public class PageRequest<T> {
+
+    private final DataQuery query;
+    private final AsyncDataStore<T> dataStore;
+    private final List<Runnable> abortHandlers = new ArrayList<>();
+    private boolean canceled = false;
+    private boolean done = false;
+
+    PageRequest(DataQuery query, AsyncDataStore<T> dataStore) {
+        this.query = query;
+        this.dataStore = dataStore;
+    }
+
+    public DataQuery getQuery() {
+        return query;
+    }
+
+    /**
+     * @param records    the records of the requested page
+     * @param totalCount the count of all the records matching the query filters
+     */
+    public void complete(List<T> records, int totalCount) {
+        if (!canceled && !done) {
+            done = true;
+            dataStore.onPageLoaded(this, records, totalCount);
+        }
+    }
+
+    public void fail(Throwable error) {
+        if (!canceled && !done) {
+            done = true;
+            dataStore.onPageFailed(this, error);
+        }
+    }
+
+    public boolean isCanceled() {
+        return canceled;
+    }
+
+    public boolean isDone() {
+        return done;
+    }
+
+    /**
+     * @param abortHandler called when the request is canceled before it is completed, e.g to abort the http request
+     * @return same request instance
+     */
+    public PageRequest<T> onCancel(Runnable abortHandler) {
+        abortHandlers.add(abortHandler);
+        return this;
+    }
+
+    void cancel() {
+        if (!canceled && !done) {
+            canceled = true;
+            abortHandlers.forEach(Runnable::run);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import org.dominokit.domino.ui.datatable.model.Filter;
+
+import java.util.List;
+
+/**
+ * Evaluates the search filters of a {@link LocalListDataStore} against its records, the matching records are reported
+ * as their positions in the records list.
+ */
+public interface QueryEngine<T> {
+
+    /**
+     * Called whenever the store records are replaced or modified, implementations should consider any previously built
+     * state as stale.
+     */
+    void setRecords(List<T> records);
+
+    /**
+     * @param filters        the filters of the search event
+     * @param fallbackFilter the store search filter to be used for the filters the engine cannot evaluate, can be null,
+     *                       in which case such filters must fail the query rather than being ignored
+     * @return the number of matching records, their positions are the first entries of {@link #getPositions()}
+     * in ascending order
+     */
+    int query(List<Filter> filters, SearchFilter<T> fallbackFilter);
+
+    int[] getPositions();
+}
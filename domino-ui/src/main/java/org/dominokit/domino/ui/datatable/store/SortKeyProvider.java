@@ -0,0 +1,10 @@
+package org.dominokit.domino.ui.datatable.store;
+
+/**
+ * Provides the value a record is sorted by for a column, local stores call it once per record and column and reuse the
+ * key for the following sorts until the records change.
+ */
+@FunctionalInterface
+public interface SortKeyProvider<T> {
+    Comparable<?> getSortKey(String sortBy, T record);
+}
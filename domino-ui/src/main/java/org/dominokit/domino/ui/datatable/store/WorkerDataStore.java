@@ -0,0 +1,458 @@
+package org.dominokit.domino.ui.datatable.store;
+
+import elemental2.core.JsArray;
+import elemental2.dom.EventListener;
+import jsinterop.annotations.JsPackage;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+import jsinterop.base.JsArrayLike;
+import jsinterop.base.JsPropertyMap;
+import org.dominokit.domino.ui.datatable.events.HandledEventTypes;
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.events.SortEvent;
+import org.dominokit.domino.ui.datatable.events.TableEvent;
+import org.dominokit.domino.ui.datatable.model.Filter;
+import org.dominokit.domino.ui.datatable.model.Operator;
+import org.dominokit.domino.ui.datatable.plugins.SortDirection;
+import org.dominokit.domino.ui.pagination.HasPagination;
+
+import java.util.*;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.dominokit.domino.ui.datatable.events.RowsUpdatedEvent.ROWS_UPDATED;
+import static org.dominokit.domino.ui.datatable.events.SearchEvent.SEARCH_EVENT;
+import static org.dominokit.domino.ui.datatable.events.SortEvent.SORT_EVENT;
+import static org.dominokit.domino.ui.datatable.events.TablePageChangeEvent.PAGINATION_EVENT;
+
+/**
+ * A local {@link DataStore} that filters and sorts its records in a web worker so the UI thread is not blocked by large
+ * data sets.
+ * <p>
+ * The records stay on the UI thread, the values of the registered columns are sent once to the worker as one array
+ * per column whenever the data changes, the worker answers each search, sort or page change with the positions of
+ * the records of the requested page only. A request replaces the previous ones, the worker skips the requests that are
+ * already superseded when it gets to them and the responses of superseded requests are ignored.
+ * <p>
+ * Filters on fields that are not registered as columns are ignored, the {@code *} field searches all the text columns,
+ * text filters are case insensitive. Sorting by a column that is not registered is ignored and the records keep their
+ * current order, so every sortable column of the table should be registered.
+ */
+public class WorkerDataStore<T> implements DataStore<T> {
+
+    private static final String ALL_FIELDS = "*";
+    private static String workerUrl;
+
+    private final List<StoreDataChangeListener<T>> listeners = new ArrayList<>();
+    private final Map<String, WorkerColumn<T>> columns = new LinkedHashMap<>();
+    private final List<String> sortColumns = new ArrayList<>();
+    private final Map<String, SortDirection> sortDirections = new HashMap<>();
+    private List<T> records = new ArrayList<>();
+    private List<Filter> filters = new ArrayList<>();
+    private HasPagination pagination;
+    private ScriptWorker worker;
+    private boolean snapshotDirty = true;
+    private int sortColumnsLimit = 3;
+    private int requestId = 0;
+    private int total = 0;
+
+    public WorkerDataStore() {
+    }
+
+    public WorkerDataStore(List<T> data) {
+        this.records = new ArrayList<>(data);
+    }
+
+    /**
+     * Registers a column whose values are sent to the worker, only the registered columns can be searched and sorted,
+     * a sort event for a column that is not registered does not change the records order.
+     *
+     * @param name      the name of the table column
+     * @param extractor the function that reads the column value of a record
+     * @return same store instance
+     */
+    public WorkerDataStore<T> addTextColumn(String name, Function<T, String> extractor) {
+        return addColumn(name, new WorkerColumn<>(true, extractor));
+    }
+
+    /**
+     * Registers a number column, like {@link #addTextColumn(String, Function)} only registered columns can be sorted.
+     */
+    public WorkerDataStore<T> addNumberColumn(String name, Function<T, ? extends Number> extractor) {
+        return addColumn(name, new WorkerColumn<>(false, record -> {
+            Number value = extractor.apply(record);
+            return isNull(value) ? null : value.doubleValue();
+        }));
+    }
+
+    public WorkerDataStore<T> addDateColumn(String name, Function<T, Date> extractor) {
+        return addColumn(name, new WorkerColumn<>(false, record -> {
+            Date value = extractor.apply(record);
+            return isNull(value) ? null : (double) value.getTime();
+        }));
+    }
+
+    private WorkerDataStore<T> addColumn(String name, WorkerColumn<T> column) {
+        columns.put(name, column);
+        snapshotDirty = true;
+        return this;
+    }
+
+    public HasPagination getPagination() {
+        return pagination;
+    }
+
+    public WorkerDataStore<T> setPagination(HasPagination pagination) {
+        this.pagination = pagination;
+        return this;
+    }
+
+    public int getSortColumnsLimit() {
+        return sortColumnsLimit;
+    }
+
+    /**
+     * Sets how many of the most recent sort columns are used to order the records, the latest sorted column is the
+     * primary order and the previous ones break its ties, defaults to 3.
+     *
+     * @param sortColumnsLimit int
+     * @return same store instance
+     */
+    public WorkerDataStore<T> setSortColumnsLimit(int sortColumnsLimit) {
+        this.sortColumnsLimit = Math.max(1, sortColumnsLimit);
+        return this;
+    }
+
+    public void setData(List<T> data) {
+        this.records = new ArrayList<>(data);
+        this.snapshotDirty = true;
+        load();
+    }
+
+    public List<T> getRecords() {
+        return new ArrayList<>(records);
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    /**
+     * Terminates the worker, it will be started again if the store is used after that.
+     */
+    public void terminate() {
+        if (nonNull(worker)) {
+            worker.terminate();
+            worker = null;
+            snapshotDirty = true;
+        }
+    }
+
+    @Override
+    public void onDataChanged(StoreDataChangeListener<T> dataChangeListener) {
+        listeners.add(dataChangeListener);
+    }
+
+    @Override
+    public void removeDataChangeListener(StoreDataChangeListener<T> dataChangeListener) {
+        listeners.remove(dataChangeListener);
+    }
+
+    @Override
+    public void load() {
+        query();
+    }
+
+    @Override
+    public HandledEventTypes getHandledEventTypes() {
+        return HandledEventTypes.of(WorkerDataStore.class, SEARCH_EVENT, SORT_EVENT, PAGINATION_EVENT, ROWS_UPDATED);
+    }
+
+    @Override
+    public void handleEvent(TableEvent event) {
+        switch (event.getType()) {
+            case SEARCH_EVENT:
+                this.filters = new ArrayList<>(((SearchEvent) event).getFilters());
+                query();
+                break;
+            case SORT_EVENT:
+                onSort((SortEvent<T>) event);
+                break;
+            case PAGINATION_EVENT:
+                request("page", pageStart());
+                break;
+            case ROWS_UPDATED:
+                snapshotDirty = true;
+                break;
+        }
+    }
+
+    private void onSort(SortEvent<T> event) {
+        String sortBy = event.getColumnConfig().getName();
+        if (columns.containsKey(sortBy)) {
+            sortColumns.remove(sortBy);
+            sortColumns.add(0, sortBy);
+            sortDirections.put(sortBy, event.getSortDirection());
+            while (sortColumns.size() > sortColumnsLimit) {
+                sortDirections.remove(sortColumns.remove(sortColumns.size() - 1));
+            }
+            query();
+        }
+    }
+
+    private void query() {
+        request("query", 0);
+    }
+
+    private void request(String type, int from) {
+        ScriptWorker target = worker();
+        if (snapshotDirty) {
+            postSnapshot(target);
+        }
+        JsPropertyMap<Object> message = JsPropertyMap.of();
+        message.set("type", type);
+        message.set("id", (double) ++requestId);
+        message.set("from", (double) from);
+        message.set("to", (double) (nonNull(pagination) ? from + pagination.getPageSize() : -1));
+        if ("query".equals(type)) {
+            message.set("filters", workerFilters());
+            message.set("sort", workerSort());
+        }
+        target.postMessage(message);
+    }
+
+    private int pageStart() {
+        return nonNull(pagination) ? pagination.getPageSize() * (pagination.activePage() - 1) : 0;
+    }
+
+    private void postSnapshot(ScriptWorker target) {
+        JsPropertyMap<Object> workerColumns = JsPropertyMap.of();
+        columns.forEach((name, column) -> {
+            JsArray<Object> values = new JsArray<>();
+            for (T record : records) {
+                Object value = column.extractor.apply(record);
+                values.push(isNull(value) ? null : value);
+            }
+            JsPropertyMap<Object> workerColumn = JsPropertyMap.of();
+            workerColumn.set("text", column.text);
+            workerColumn.set("values", values);
+            workerColumns.set(name, workerColumn);
+        });
+
+        JsPropertyMap<Object> message = JsPropertyMap.of();
+        message.set("type", "data");
+        message.set("size", (double) records.size());
+        message.set("columns", workerColumns);
+        target.postMessage(message);
+        snapshotDirty = false;
+    }
+
+    private JsArray<Object> workerFilters() {
+        JsArray<Object> workerFilters = new JsArray<>();
+        for (Filter filter : filters) {
+            JsPropertyMap<Object> workerFilter = toWorkerFilter(filter);
+            if (nonNull(workerFilter)) {
+                workerFilters.push(workerFilter);
+            }
+        }
+        return workerFilters;
+    }
+
+    private JsPropertyMap<Object> toWorkerFilter(Filter filter) {
+        String field = filter.getFieldName();
+        WorkerColumn<T> column = columns.get(field);
+        boolean allFields = ALL_FIELDS.equals(field);
+        if (allFields ? columns.values().stream().noneMatch(workerColumn -> workerColumn.text) : isNull(column)) {
+            return null;
+        }
+
+        JsPropertyMap<Object> workerFilter = JsPropertyMap.of();
+        workerFilter.set("field", field);
+        workerFilter.set("op", filter.getOperator().getName());
+        if (Operator.is_Null.equals(filter.getOperator()) || Operator.isNotNull.equals(filter.getOperator())) {
+            return workerFilter;
+        }
+
+        List<String> values = filter.getValues();
+        if (values.isEmpty() || isNull(values.get(0)) || values.get(0).trim().isEmpty()) {
+            return null;
+        }
+        if (allFields || column.text) {
+            workerFilter.set("value", values.get(0).toLowerCase());
+        } else {
+            Double value = parseNumber(values.get(0));
+            Double to = values.size() > 1 ? parseNumber(values.get(1)) : value;
+            if (isNull(value) || isNull(to)) {
+                return null;
+            }
+            workerFilter.set("value", value);
+            workerFilter.set("to", to);
+        }
+        return workerFilter;
+    }
+
+    private JsArray<Object> workerSort() {
+        JsArray<Object> workerSort = new JsArray<>();
+        for (String sortBy : sortColumns) {
+            JsPropertyMap<Object> sortColumn = JsPropertyMap.of();
+            sortColumn.set("field", sortBy);
+            sortColumn.set("desc", SortDirection.DESC == sortDirections.get(sortBy));
+            workerSort.push(sortColumn);
+        }
+        return workerSort;
+    }
+
+    private static Double parseNumber(String value) {
+        try {
+            return Double.parseDouble(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private ScriptWorker worker() {
+        if (isNull(worker)) {
+            worker = new ScriptWorker(workerUrl());
+            worker.addEventListener("message", evt -> onWorkerMessage(Js.asPropertyMap(Js.asPropertyMap(evt).get("data"))));
+            snapshotDirty = true;
+        }
+        return worker;
+    }
+
+    private void onWorkerMessage(JsPropertyMap<Object> response) {
+        if (Js.asInt(response.get("id")) != requestId) {
+            return;
+        }
+        int newTotal = Js.asInt(response.get("total"));
+        JsArrayLike<Object> positions = Js.asArrayLike(response.get("positions"));
+        List<T> page = new ArrayList<>(positions.getLength());
+        for (int i = 0; i < positions.getLength(); i++) {
+            page.add(records.get(Js.asInt(positions.getAt(i))));
+        }
+        if (nonNull(pagination) && "query".equals(response.get("type"))) {
+            pagination.updatePagesByTotalCount(newTotal);
+        }
+        this.total = newTotal;
+        listeners.forEach(listener -> listener.onDataChanged(new DataChangedEvent<>(page, newTotal)));
+    }
+
+    private static String workerUrl() {
+        if (isNull(workerUrl)) {
+            JsPropertyMap<Object> options = JsPropertyMap.of();
+            options.set("type", "application/javascript");
+            JsArray<Object> parts = new JsArray<>();
+            parts.push(WORKER_SCRIPT);
+            workerUrl = ScriptUrl.createObjectURL(new ScriptBlob(parts, options));
+        }
+        return workerUrl;
+    }
+
+    private static final class WorkerColumn<T> {
+        private final boolean text;
+        private final Function<T, ?> extractor;
+
+        private WorkerColumn(boolean text, Function<T, ?> extractor) {
+            this.text = text;
+            this.extractor = extractor;
+        }
+    }
+
+    @JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Worker")
+    static class ScriptWorker {
+        ScriptWorker(String url) {
+        }
+
+        native void postMessage(Object message);
+
+        native void addEventListener(String type, EventListener listener);
+
+        native void terminate();
+    }
+
+    @JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "Blob")
+    static class ScriptBlob {
+        ScriptBlob(JsArray<Object> parts, JsPropertyMap<Object> options) {
+        }
+    }
+
+    @JsType(isNative = true, namespace = JsPackage.GLOBAL, name = "URL")
+    static class ScriptUrl {
+        static native String createObjectURL(ScriptBlob blob);
+    }
+
+    private static final String WORKER_SCRIPT = ""
+            + "var size = 0, columns = {}, lower = {}, texts = [], query = {filters: [], sort: []};\n"
+            + "var result = [], dirty = true, latest = null, scheduled = false;\n"
+            + "self.onmessage = function (e) {\n"
+            + "  var m = e.data;\n"
+            + "  if (m.type === 'data') {\n"
+            + "    size = m.size; columns = m.columns; lower = {}; texts = [];\n"
+            + "    for (var name in columns) {\n"
+            + "      if (columns[name].text) {\n"
+            + "        var values = columns[name].values, l = new Array(values.length);\n"
+            + "        for (var i = 0; i < values.length; i++) { l[i] = values[i] == null ? null : String(values[i]).toLowerCase(); }\n"
+            + "        lower[name] = l; texts.push(name);\n"
+            + "      }\n"
+            + "    }\n"
+            + "    dirty = true;\n"
+            + "    return;\n"
+            + "  }\n"
+            + "  if (m.type === 'query') { query = m; dirty = true; }\n"
+            + "  latest = m;\n"
+            + "  if (!scheduled) { scheduled = true; setTimeout(run, 0); }\n"
+            + "};\n"
+            + "function run() {\n"
+            + "  scheduled = false;\n"
+            + "  var type = dirty ? 'query' : latest.type;\n"
+            + "  if (dirty) { result = compute(); dirty = false; }\n"
+            + "  var to = latest.to < 0 ? result.length : latest.to;\n"
+            + "  self.postMessage({id: latest.id, type: type, total: result.length, positions: result.slice(latest.from, to)});\n"
+            + "}\n"
+            + "function none(v) { return v == null || v !== v; }\n"
+            + "function compute() {\n"
+            + "  var filters = query.filters, sort = query.sort, matches = [];\n"
+            + "  rows: for (var i = 0; i < size; i++) {\n"
+            + "    for (var f = 0; f < filters.length; f++) { if (!test(filters[f], i)) { continue rows; } }\n"
+            + "    matches.push(i);\n"
+            + "  }\n"
+            + "  if (sort.length > 0) {\n"
+            + "    matches.sort(function (a, b) {\n"
+            + "      for (var s = 0; s < sort.length; s++) {\n"
+            + "        var values = columns[sort[s].field].values, x = values[a], y = values[b], r = 0;\n"
+            + "        if (none(x) || none(y)) { r = none(x) ? (none(y) ? 0 : -1) : 1; }\n"
+            + "        else { r = x < y ? -1 : (x > y ? 1 : 0); }\n"
+            + "        if (r !== 0) { return sort[s].desc ? -r : r; }\n"
+            + "      }\n"
+            + "      return a - b;\n"
+            + "    });\n"
+            + "  }\n"
+            + "  return matches;\n"
+            + "}\n"
+            + "function test(f, i) {\n"
+            + "  if (f.field === '*') {\n"
+            + "    for (var t = 0; t < texts.length; t++) {\n"
+            + "      var s = lower[texts[t]][i];\n"
+            + "      if (s != null && s.indexOf(f.value) >= 0) { return true; }\n"
+            + "    }\n"
+            + "    return false;\n"
+            + "  }\n"
+            + "  var column = columns[f.field], v = column.text ? lower[f.field][i] : column.values[i];\n"
+            + "  if (none(v)) { return f.op === 'isNull' || f.op === 'notEquals'; }\n"
+            + "  switch (f.op) {\n"
+            + "    case 'isNull': return false;\n"
+            + "    case 'isNotNull': return true;\n"
+            + "    case 'like': case 'contains': return column.text ? v.indexOf(f.value) >= 0 : v === f.value;\n"
+            + "    case 'startsWith': return column.text && v.lastIndexOf(f.value, 0) === 0;\n"
+            + "    case 'endsWith': return column.text && v.length >= f.value.length && v.indexOf(f.value, v.length - f.value.length) >= 0;\n"
+            + "    case 'equals': return v === f.value;\n"
+            + "    case 'notEquals': return v !== f.value;\n"
+            + "    case 'lessThan': return v < f.value;\n"
+            + "    case 'lessThanOrEquals': return v <= f.value;\n"
+            + "    case 'greaterThan': return v > f.value;\n"
+            + "    case 'greaterThanOrEquals': return v >= f.value;\n"
+            + "    case 'between': return v >= f.value && v <= f.to;\n"
+            + "  }\n"
+            + "  return true;\n"
+            + "}\n";
+}
@@ -1,7 +1,7 @@
 package org.dominokit.domino.ui.dropdown;
 
 import elemental2.dom.*;
-import jsinterop.base.Js;
+import org.dominokit.domino.ui.collapsible.Collapsible;
 import org.dominokit.domino.ui.grid.flex.FlexItem;
 import org.dominokit.domino.ui.grid.flex.FlexLayout;
 import org.dominokit.domino.ui.icons.Icons;
@@ -16,7 +16,10 @@ import org.jboss.elemento.EventType;
 import org.jboss.elemento.IsElement;
 
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import static elemental2.dom.DomGlobal.document;
@@ -38,6 +41,7 @@ public class DropDownMenu extends BaseDominoElement<HTMLDivElement, DropDownMenu
     private String noMatchSearchResultText = "No results matched";
 
     private List<DropdownAction> actions = new ArrayList<>();
+    private static final Set<DropDownMenu> OPENED_MENUS = new LinkedHashSet<>();
     private static boolean touchMoved;
     private List<CloseHandler> closeHandlers = new ArrayList<>();
     private List<OpenHandler> openHandlers = new ArrayList<>();
@@ -47,14 +51,24 @@ public class DropDownMenu extends BaseDominoElement<HTMLDivElement, DropDownMenu
     private List<DropdownActionsGroup> groups = new ArrayList<>();
     private Color background;
     private HTMLElement appendTarget = document.body;
+    private VirtualMenuRenderer virtualRenderer;
+    private double virtualItemHeight = -1;
+    private final Collapsible.HideCompletedHandler virtualItemsHideHandler = this::invalidateVirtualItems;
+    private final Collapsible.ShowCompletedHandler virtualItemsShowHandler = this::invalidateVirtualItems;
     private AppendStrategy appendStrategy = AppendStrategy.LAST;
-    private SearchFilter searchFilter = (searchText, dropdownAction, caseSensitive) -> {
+    private static final SearchFilter DEFAULT_SEARCH_FILTER = (searchText, dropdownAction, caseSensitive) -> {
         if (caseSensitive) {
-           return dropdownAction.getContent().textContent.contains(searchText);
+            return dropdownAction.getSearchText(true).contains(searchText);
         } else {
-            return dropdownAction.getContent().textContent.toLowerCase().contains(searchText.toLowerCase());
+            return dropdownAction.getSearchText(false).contains(searchText.toLowerCase());
         }
     };
+    private SearchFilter searchFilter = DEFAULT_SEARCH_FILTER;
+    private double pendingSearch = -1;
+    private String lastSearchQuery;
+    private boolean lastSearchCaseSensitive;
+    private List<DropdownAction> lastSearchMatches;
+    private boolean searching = false;
 
     static {
         document.addEventListener(EventType.click.getName(), evt -> DropDownMenu.closeAllMenus());
@@ -108,7 +122,7 @@ public class DropDownMenu extends BaseDominoElement<HTMLDivElement, DropDownMenu
                 .onEnter(evt -> selectFirstSearchResult());
         searchBox.addEventListener("input", evt -> {
             if (searchable) {
-                doSearch();
+                scheduleSearch();
             }
         });
 
@@ -121,6 +135,7 @@ public class DropDownMenu extends BaseDominoElement<HTMLDivElement, DropDownMenu
     }
 
     private void selectFirstSearchResult() {
+        flushSearch();
         List<DropdownAction> filteredAction = getFilteredAction();
         if (!filteredAction.isEmpty()) {
             selectAt(actions.indexOf(filteredAction.get(0)));
@@ -147,29 +162,94 @@ public class DropDownMenu extends BaseDominoElement<HTMLDivElement, DropDownMenu
         return 0;
     }
 
-    private void doSearch() {
-        String searchValue = searchBox.element().value;
-        boolean thereIsValues = false;
-        for (DropdownAction<?> action : actions) {
+    private void scheduleSearch() {
+        if (pendingSearch < 0) {
+            pendingSearch = DomGlobal.requestAnimationFrame(timestamp -> {
+                pendingSearch = -1;
+                doSearch();
+            });
+        }
+    }
+
+    private void flushSearch() {
+        if (pendingSearch >= 0) {
+            cancelSearch();
+            doSearch();
+        }
+    }
 
-            action.setFilteredOut(false);
-            boolean contains =searchFilter.filter(searchValue, action, caseSensitiveSearch);
-            contains = contains && !action.isExcludeFromSearchResults();
+    private void cancelSearch() {
+        if (pendingSearch >= 0) {
+            DomGlobal.cancelAnimationFrame(pendingSearch);
+            pendingSearch = -1;
+        }
+    }
 
-            if (!contains) {
+    /**
+     * Filters the actions by the search box value, when the default filter is used and the value contains the previous
+     * value only the previous matches are checked, and only the actions that changed from matching to not matching or
+     * the other way around are shown or hidden.
+     */
+    private void doSearch() {
+        String searchValue = searchBox.element().value;
+        boolean defaultFilter = searchFilter == DEFAULT_SEARCH_FILTER;
+        String query = caseSensitiveSearch ? searchValue : searchValue.toLowerCase();
+        boolean narrowing = defaultFilter
+                && nonNull(lastSearchMatches)
+                && lastSearchCaseSensitive == caseSensitiveSearch
+                && query.contains(lastSearchQuery);
+
+        List<DropdownAction> candidates = narrowing ? lastSearchMatches : actions;
+        List<DropdownAction> matches = new ArrayList<>();
+        boolean changed = false;
+        searching = true;
+        for (DropdownAction<?> action : candidates) {
+            boolean contains = !action.isExcludeFromSearchResults() && (defaultFilter
+                    ? action.getSearchText(caseSensitiveSearch).contains(query)
+                    : searchFilter.filter(searchValue, action, caseSensitiveSearch));
+            if (contains) {
+                matches.add(action);
+                if (action.isFilteredOut()) {
+                    action.deFilter();
+                    changed = true;
+                }
+            } else if (!action.isFilteredOut()) {
                 action.filter();
-            } else {
-                thereIsValues = true;
-                action.deFilter();
+                changed = true;
             }
         }
-        if (thereIsValues) {
+        searching = false;
+
+        if (defaultFilter) {
+            lastSearchQuery = query;
+            lastSearchCaseSensitive = caseSensitiveSearch;
+            lastSearchMatches = matches;
+        } else {
+            resetSearchState();
+        }
+
+        if (!matches.isEmpty()) {
             noSearchResultsElement.hide();
         } else {
             noSearchResultsElement.show();
             noSearchResultsElement.setTextContent(noMatchSearchResultText + " \"" + searchValue + "\"");
         }
-        groups.forEach(DropdownActionsGroup::changeVisibility);
+        if (changed) {
+            groups.forEach(DropdownActionsGroup::changeVisibility);
+            invalidateVirtualItems();
+        }
+    }
+
+    /**
+     * @return true while the search is showing and hiding the actions, the groups are updated once the search ends
+     */
+    boolean isSearching() {
+        return searching;
+    }
+
+    private void resetSearchState() {
+        lastSearchQuery = null;
+        lastSearchMatches = null;
     }
 
     public List<DropdownAction> getFilteredAction() {
@@ -185,6 +265,9 @@ public class DropDownMenu extends BaseDominoElement<HTMLDivElement, DropDownMenu
                 .focusCondition(item -> !item.isHidden())
                 .onFocus(item -> {
                     if (isOpened()) {
+                        if (isVirtualScroll()) {
+                            virtualRenderer.scrollTo(item.element());
+                        }
                         item.focus();
                     }
                 })
@@ -193,18 +276,16 @@ public class DropDownMenu extends BaseDominoElement<HTMLDivElement, DropDownMenu
         element.addEventListener("keydown", menuNavigation);
     }
 
+    /**
+     * Closes all the opened menus, the menus are tracked when they are opened and closed so only the opened menus are
+     * visited.
+     */
     public static void closeAllMenus() {
-        NodeList<Element> elementsByName = document.body.querySelectorAll(".dropdown");
-        for (int i = 0; i < elementsByName.length; i++) {
-            HTMLElement item = Js.uncheckedCast(elementsByName.item(i));
-            close(item);
+        if (!OPENED_MENUS.isEmpty()) {
+            new ArrayList<>(OPENED_MENUS).forEach(DropDownMenu::close);
         }
     }
 
-    private static void close(HTMLElement item) {
-        item.remove();
-    }
-
     public static DropDownMenu create(HTMLElement targetElement) {
         return new DropDownMenu(targetElement);
     }
@@ -220,19 +301,66 @@ public class DropDownMenu extends BaseDominoElement<HTMLDivElement, DropDownMenu
             }
         });
         actions.add(0, action);
-        menuElement.insertFirst(action.element());
+        resetSearchState();
+        if (isVirtualScroll()) {
+            listenToVisibility(action);
+            virtualRenderer.insertFirst(action.element());
+        } else {
+            menuElement.insertFirst(action.element());
+        }
         return this;
     }
 
     public DropDownMenu appendChild(DropdownAction action) {
+        registerAction(action);
+        appendEntry(action.element());
+        return this;
+    }
+
+    /**
+     * Appends the actions to the menu at once, the action elements are added to the menu element in a single fragment.
+     *
+     * @param actions the actions to append
+     * @return same menu instance
+     */
+    public DropDownMenu appendChildren(Collection<? extends DropdownAction> actions) {
+        DocumentFragment fragment = document.createDocumentFragment();
+        for (DropdownAction action : actions) {
+            registerAction(action);
+            if (isVirtualScroll()) {
+                virtualRenderer.add(action.element());
+            } else {
+                fragment.appendChild(action.element());
+            }
+        }
+        menuElement.appendChild(fragment);
+        return this;
+    }
+
+    private void registerAction(DropdownAction action) {
         action.addSelectionHandler(value -> {
             if (action.isAutoClose()) {
                 close();
             }
         });
         actions.add(action);
-        menuElement.appendChild(action.element());
+        resetSearchState();
+        if (isVirtualScroll()) {
+            listenToVisibility(action);
+        }
         action.setBackground(this.background);
+    }
+
+    public DropDownMenu removeAction(DropdownAction action) {
+        if (actions.remove(action)) {
+            resetSearchState();
+            if (isVirtualScroll()) {
+                stopListeningToVisibility(action);
+                virtualRenderer.remove(action.element());
+            } else {
+                action.element().remove();
+            }
+        }
         return this;
     }
 
@@ -241,19 +369,47 @@ public class DropDownMenu extends BaseDominoElement<HTMLDivElement, DropDownMenu
     }
 
     public DropDownMenu separator() {
-        menuElement.appendChild(li().attr("role", "separator")
-                .css(DropDownStyles.DIVIDER));
+        appendEntry(li().attr("role", "separator")
+                .css(DropDownStyles.DIVIDER)
+                .element());
         return this;
     }
 
+    private void listenToVisibility(DropdownAction<?> action) {
+        action.addHideListener(virtualItemsHideHandler);
+        action.addShowListener(virtualItemsShowHandler);
+    }
+
+    private void stopListeningToVisibility(DropdownAction<?> action) {
+        action.removeHideListener(virtualItemsHideHandler);
+        action.removeShowListener(virtualItemsShowHandler);
+    }
+
+    private void invalidateVirtualItems() {
+        if (isVirtualScroll()) {
+            virtualRenderer.invalidate();
+        }
+    }
+
+    private void appendEntry(HTMLElement entry) {
+        if (isVirtualScroll()) {
+            virtualRenderer.add(entry);
+        } else {
+            menuElement.appendChild(entry);
+        }
+    }
+
     public DropDownMenu appendChild(Node child) {
         element.appendChild(child);
         return this;
     }
 
     public void close() {
+        boolean opened = OPENED_MENUS.remove(this);
         element.remove();
-        closeHandlers.forEach(CloseHandler::onClose);
+        if (opened) {
+            closeHandlers.forEach(CloseHandler::onClose);
+        }
     }
 
     public void open() {
@@ -278,20 +434,38 @@ public class DropDownMenu extends BaseDominoElement<HTMLDivElement, DropDownMenu
                         .onDetached(targetDetach -> close());
 
                 onDetached(detachRecord -> {
-                    closeHandlers.forEach(CloseHandler::onClose);
+                    if (!isOpened() && OPENED_MENUS.remove(this)) {
+                        closeHandlers.forEach(CloseHandler::onClose);
+                    }
                 });
             });
 
             if (!appendTarget.contains(element.element())) {
                 appendStrategy.onAppend(appendTarget, element.element());
             }
+            OPENED_MENUS.add(this);
+            if (isVirtualScroll()) {
+                virtualRenderer.render();
+            }
         }
     }
 
     public void clearSearch() {
+        cancelSearch();
+        resetSearchState();
         searchBox.element().value = "";
         noSearchResultsElement.hide();
-        actions.forEach(DropdownAction::show);
+        searching = true;
+        for (DropdownAction<?> action : actions) {
+            if (action.isFilteredOut()) {
+                action.deFilter();
+            } else if (action.isHidden()) {
+                action.show();
+            }
+        }
+        searching = false;
+        groups.forEach(DropdownActionsGroup::changeVisibility);
+        invalidateVirtualItems();
     }
 
     public boolean isOpened() {
@@ -309,7 +483,12 @@ public class DropDownMenu extends BaseDominoElement<HTMLDivElement, DropDownMenu
     }
 
     public DropDownMenu clearActions() {
+        resetSearchState();
         menuElement.clearElement();
+        if (isVirtualScroll()) {
+            actions.forEach(this::stopListeningToVisibility);
+            virtualRenderer.clear();
+        }
         actions.clear();
         groups.clear();
         return this;
@@ -367,7 +546,7 @@ public class DropDownMenu extends BaseDominoElement<HTMLDivElement, DropDownMenu
 
     public DropDownMenu addGroup(DropdownActionsGroup group) {
         groups.add(group);
-        menuElement.appendChild(group.element());
+        appendEntry(group.element());
         group.bindTo(this);
         return this;
     }
@@ -379,6 +558,51 @@ public class DropDownMenu extends BaseDominoElement<HTMLDivElement, DropDownMenu
         return this;
     }
 
+    /**
+     * In virtual scroll mode only the actions within the visible area of the menu are attached while it is open, the
+     * other actions are kept detached and attached as the menu is scrolled or navigated with the keyboard, use it for
+     * menus with thousands of actions.
+     * <p>
+     * This mode only reduces the attached DOM, which makes opening, scrolling, searching and laying out the menu cheaper,
+     * the elements of all the actions are still created when the actions are added and kept in memory, so it does not
+     * reduce the time or memory taken to build the actions.
+     * <p>
+     * All the actions are expected to have the same height, see {@link #setVirtualItemHeight(double)}.
+     *
+     * @param virtualScroll boolean
+     * @return same menu instance
+     */
+    public DropDownMenu setVirtualScroll(boolean virtualScroll) {
+        if (virtualScroll && !isVirtualScroll()) {
+            virtualRenderer = new VirtualMenuRenderer(menuElement.element());
+            virtualRenderer.setItemHeight(virtualItemHeight);
+            virtualRenderer.start();
+            actions.forEach(this::listenToVisibility);
+        } else if (!virtualScroll && isVirtualScroll()) {
+            actions.forEach(this::stopListeningToVisibility);
+            virtualRenderer.stop();
+            virtualRenderer = null;
+        }
+        return this;
+    }
+
+    public boolean isVirtualScroll() {
+        return nonNull(virtualRenderer);
+    }
+
+    /**
+     * @param itemHeight the height in pixels of an action in virtual scroll mode, when not set it is measured from the
+     *                   first attached action
+     * @return same menu instance
+     */
+    public DropDownMenu setVirtualItemHeight(double itemHeight) {
+        this.virtualItemHeight = itemHeight;
+        if (isVirtualScroll()) {
+            virtualRenderer.setItemHeight(itemHeight);
+        }
+        return this;
+    }
+
     public DropDownMenu setAppendTarget(HTMLElement appendTarget) {
         if (nonNull(appendTarget)) {
             this.appendTarget = appendTarget;
@@ -447,6 +671,7 @@ public class DropDownMenu extends BaseDominoElement<HTMLDivElement, DropDownMenu
     public DropDownMenu setSearchFilter(SearchFilter searchFilter) {
         if(nonNull(searchFilter)) {
             this.searchFilter = searchFilter;
+            resetSearchState();
         }
         return this;
     }
@@ -9,4 +9,5 @@ public class DropDownStyles {
     public static final String DROPDOWN_SEARCH_BOX = "dropdown-search-box";
     public static final String NO_RESULTS = "no-results";
     public static final String DIVIDER = "divider";
+    public static final String VIRTUAL_SPACER = "dropdown-virtual-spacer";
 }
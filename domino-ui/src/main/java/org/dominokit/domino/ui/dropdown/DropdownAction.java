@@ -14,6 +14,7 @@ import org.gwtproject.safehtml.shared.SafeHtmlBuilder;
 import java.util.ArrayList;
 import java.util.List;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.jboss.elemento.Elements.*;
 
@@ -32,6 +33,8 @@ public class DropdownAction<T> extends BaseDominoElement<HTMLLIElement, Dropdown
     private Color background;
     private boolean filteredOut = false;
     private boolean excludeFromSearchResults = false;
+    private String searchText;
+    private String lowerCaseSearchText;
 
     public DropdownAction(T value, String displayValue) {
         this(value, displayValue, null);
@@ -132,6 +135,7 @@ public class DropdownAction<T> extends BaseDominoElement<HTMLLIElement, Dropdown
     }
 
     public DropdownAction<T> setDisplayValue(String displayValue) {
+        resetSearchText();
         this.content.clearElement()
                 .appendChild(span()
                         .textContent(displayValue));
@@ -139,6 +143,7 @@ public class DropdownAction<T> extends BaseDominoElement<HTMLLIElement, Dropdown
     }
 
     public DropdownAction<T> setDisplayValue(BaseIcon<?> icon, String displayValue) {
+        resetSearchText();
         this.content.clearElement()
                 .appendChild(icon)
                 .appendChild(TextNode.of(displayValue));
@@ -147,6 +152,7 @@ public class DropdownAction<T> extends BaseDominoElement<HTMLLIElement, Dropdown
     }
 
     public DropdownAction<T> setDisplayValue(HTMLElement content) {
+        resetSearchText();
         this.content.clearElement()
                 .appendChild(content);
         return this;
@@ -186,6 +192,27 @@ public class DropdownAction<T> extends BaseDominoElement<HTMLLIElement, Dropdown
         this.filteredOut = filteredOut;
     }
 
+    /**
+     * @return the text content of the action used by the menu search, read once and cached until the display value
+     * is changed
+     */
+    public String getSearchText(boolean caseSensitive) {
+        if (isNull(searchText)) {
+            searchText = content.element().textContent;
+            lowerCaseSearchText = searchText.toLowerCase();
+        }
+        return caseSensitive ? searchText : lowerCaseSearchText;
+    }
+
+    /**
+     * Clears the cached search text, call it when the content of the action is changed without setting the display value.
+     */
+    public DropdownAction<T> resetSearchText() {
+        this.searchText = null;
+        this.lowerCaseSearchText = null;
+        return this;
+    }
+
     public boolean isExcludeFromSearchResults() {
         return excludeFromSearchResults;
     }
@@ -73,12 +73,18 @@ public class DropdownActionsGroup<T> extends BaseDominoElement<HTMLLIElement, Dr
 
     private void addActionToMenu(DropdownAction<T> action) {
         if (nonNull(menu)) {
-            action.addHideListener(this::changeVisibility);
-            action.addShowListener(this::changeVisibility);
+            action.addHideListener(this::onActionVisibilityChanged);
+            action.addShowListener(this::onActionVisibilityChanged);
             menu.appendChild(action);
         }
     }
 
+    private void onActionVisibilityChanged() {
+        if (!menu.isSearching()) {
+            changeVisibility();
+        }
+    }
+
     void changeVisibility() {
         if (isAllHidden()) {
             hide();
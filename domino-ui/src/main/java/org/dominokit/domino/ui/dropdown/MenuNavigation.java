@@ -69,6 +69,7 @@ public class MenuNavigation<V extends IsElement> implements EventListener {
                     selectHandler.doSelect(item);
                 }
                 evt.preventDefault();
+                break;
             }
         }
     }
@@ -0,0 +1,217 @@
+package org.dominokit.domino.ui.dropdown;
+
+import elemental2.dom.DomGlobal;
+import elemental2.dom.HTMLElement;
+import elemental2.dom.HTMLLIElement;
+import elemental2.dom.HTMLUListElement;
+import elemental2.dom.Node;
+import jsinterop.base.Js;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.jboss.elemento.Elements.li;
+
+/**
+ * Keeps the items of a {@link DropDownMenu} in a logical list and attaches to the menu element only the visible items
+ * in the scrolled area, two spacers before and after the attached items keep the scroll height of the whole list.
+ * <p>
+ * All the items are expected to have the same height, when no height is set it is measured from the first attached
+ * action, the items hidden by a search are skipped.
+ */
+class VirtualMenuRenderer {
+
+    private static final int OVERSCAN = 5;
+
+    private final HTMLUListElement menuElement;
+    private final HTMLLIElement topSpacer = li().css(DropDownStyles.VIRTUAL_SPACER).element();
+    private final HTMLLIElement bottomSpacer = li().css(DropDownStyles.VIRTUAL_SPACER).element();
+    private final List<HTMLElement> entries = new ArrayList<>();
+    private final List<HTMLElement> renderedEntries = new ArrayList<>();
+    private List<HTMLElement> visibleEntries = Collections.emptyList();
+    private double itemHeight = -1;
+    private boolean fixedItemHeight = false;
+    private boolean dirty = true;
+    private double pendingFrame = -1;
+    private boolean started = false;
+
+    VirtualMenuRenderer(HTMLUListElement menuElement) {
+        this.menuElement = menuElement;
+        menuElement.addEventListener("scroll", evt -> scheduleRender());
+    }
+
+    void setItemHeight(double itemHeight) {
+        this.itemHeight = itemHeight;
+        this.fixedItemHeight = itemHeight > 0;
+        scheduleRender();
+    }
+
+    void start() {
+        List<HTMLElement> attached = new ArrayList<>();
+        Node child = menuElement.firstChild;
+        while (child != null) {
+            Node next = child.nextSibling;
+            HTMLElement element = Js.uncheckedCast(child);
+            if (child.nodeType == Node.ELEMENT_NODE && !element.classList.contains(DropDownStyles.NO_RESULTS)) {
+                attached.add(element);
+                element.remove();
+            }
+            child = next;
+        }
+        entries.addAll(attached);
+        menuElement.appendChild(topSpacer);
+        menuElement.appendChild(bottomSpacer);
+        started = true;
+        invalidate();
+    }
+
+    void stop() {
+        started = false;
+        cancelRender();
+        renderedEntries.forEach(HTMLElement::remove);
+        renderedEntries.clear();
+        topSpacer.remove();
+        bottomSpacer.remove();
+        entries.forEach(menuElement::appendChild);
+        entries.clear();
+        visibleEntries = Collections.emptyList();
+    }
+
+    void add(HTMLElement entry) {
+        entries.add(entry);
+        invalidate();
+    }
+
+    void insertFirst(HTMLElement entry) {
+        entries.add(0, entry);
+        invalidate();
+    }
+
+    void remove(HTMLElement entry) {
+        entries.remove(entry);
+        renderedEntries.remove(entry);
+        entry.remove();
+        invalidate();
+    }
+
+    void clear() {
+        cancelRender();
+        entries.clear();
+        renderedEntries.clear();
+        visibleEntries = Collections.emptyList();
+        menuElement.appendChild(topSpacer);
+        menuElement.appendChild(bottomSpacer);
+        dirty = true;
+    }
+
+    /**
+     * Marks the visible items list as changed, called when items are added or when the visibility of items is changed.
+     */
+    void invalidate() {
+        dirty = true;
+        scheduleRender();
+    }
+
+    /**
+     * Scrolls the menu so the item is within the visible area and attaches it.
+     */
+    void scrollTo(HTMLElement entry) {
+        updateVisibleEntries();
+        int index = visibleEntries.indexOf(entry);
+        if (index < 0) {
+            return;
+        }
+        double height = getItemHeight();
+        double top = index * height;
+        if (top < menuElement.scrollTop) {
+            menuElement.scrollTop = top;
+        } else if (top + height > menuElement.scrollTop + menuElement.clientHeight) {
+            menuElement.scrollTop = top + height - menuElement.clientHeight;
+        }
+        render();
+    }
+
+    private void scheduleRender() {
+        if (started && pendingFrame < 0 && DomGlobal.document.body.contains(menuElement)) {
+            pendingFrame = DomGlobal.requestAnimationFrame(timestamp -> {
+                pendingFrame = -1;
+                render();
+            });
+        }
+    }
+
+    private void cancelRender() {
+        if (pendingFrame >= 0) {
+            DomGlobal.cancelAnimationFrame(pendingFrame);
+            pendingFrame = -1;
+        }
+    }
+
+    void render() {
+        cancelRender();
+        updateVisibleEntries();
+        double height = getItemHeight();
+        double viewHeight = menuElement.clientHeight > 0 ? menuElement.clientHeight : height * 10;
+        int first = Math.max(0, (int) Math.floor(menuElement.scrollTop / height) - OVERSCAN);
+        int last = Math.min(visibleEntries.size(), (int) Math.ceil((menuElement.scrollTop + viewHeight) / height) + OVERSCAN);
+        first = Math.min(first, last);
+
+        List<HTMLElement> slice = visibleEntries.subList(first, last);
+        for (HTMLElement rendered : renderedEntries) {
+            if (!slice.contains(rendered)) {
+                rendered.remove();
+            }
+        }
+        Node expected = topSpacer.nextSibling;
+        for (HTMLElement entry : slice) {
+            if (entry != expected) {
+                menuElement.insertBefore(entry, expected);
+            } else {
+                expected = expected.nextSibling;
+            }
+        }
+        renderedEntries.clear();
+        renderedEntries.addAll(slice);
+
+        topSpacer.style.height = (first * height) + "px";
+        bottomSpacer.style.height = ((visibleEntries.size() - last) * height) + "px";
+
+        if (!fixedItemHeight) {
+            measureItemHeight(slice);
+        }
+    }
+
+    private void measureItemHeight(List<HTMLElement> slice) {
+        for (HTMLElement entry : slice) {
+            if ("option".equals(entry.getAttribute("role")) && entry.offsetHeight > 0) {
+                if (entry.offsetHeight != itemHeight) {
+                    itemHeight = entry.offsetHeight;
+                    scheduleRender();
+                }
+                return;
+            }
+        }
+    }
+
+    private void updateVisibleEntries() {
+        if (dirty) {
+            dirty = false;
+            List<HTMLElement> visible = new ArrayList<>();
+            for (HTMLElement entry : entries) {
+                if (isShown(entry)) {
+                    visible.add(entry);
+                }
+            }
+            visibleEntries = visible;
+        }
+    }
+
+    private boolean isShown(HTMLElement entry) {
+        return !entry.hasAttribute("d-collapsed") && !"none".equals(entry.style.display);
+    }
+
+    private double getItemHeight() {
+        return itemHeight > 0 ? itemHeight : 36;
+    }
+}
@@ -13,10 +13,7 @@ import org.dominokit.domino.ui.modals.ModalBackDrop;
 import org.dominokit.domino.ui.style.Styles;
 import org.dominokit.domino.ui.utils.DominoElement;
 
-import java.util.ArrayList;
-import java.util.Collection;
-import java.util.LinkedList;
-import java.util.List;
+import java.util.*;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -35,6 +32,9 @@ public abstract class AbstractSelect<T, V, S extends AbstractSelect<T, V, S>> ex
     private DominoElement<HTMLButtonElement> buttonElement;
     protected DominoElement<HTMLElement> buttonValueContainer = DominoElement.of(span().css("select-value", Styles.ellipsis_text));
     protected LinkedList<SelectOption<V>> options = new LinkedList<>();
+    private final Map<String, List<SelectOption<V>>> optionsByKey = new HashMap<>();
+    private final Map<V, List<SelectOption<V>>> optionsByValue = new HashMap<>();
+    private final Map<SelectOption<V>, DropdownAction<SelectOption<V>>> optionsActions = new HashMap<>();
     private DropDownMenu optionsMenu;
     private List<SelectionHandler<V>> selectionHandlers = new ArrayList<>();
     private Supplier<BaseIcon<?>> arrowIconSupplier = Icons.ALL::menu_down_mdi;
@@ -78,7 +78,7 @@ public abstract class AbstractSelect<T, V, S extends AbstractSelect<T, V, S>> ex
 
     public AbstractSelect(String label, List<SelectOption<V>> options) {
         this(label);
-        options.forEach(this::appendChild);
+        addOptions(options);
     }
 
     private void initListeners() {
@@ -158,10 +158,24 @@ public abstract class AbstractSelect<T, V, S extends AbstractSelect<T, V, S>> ex
     private void addOptionToGroup(DropdownActionsGroup<SelectOption<V>> dropdownActionsGroup, SelectOption<V> option) {
         dropdownActionsGroup.appendChild(asDropDownAction(option));
         options.add(option);
+        indexOption(option, false);
     }
 
+    /**
+     * Adds the options at once, the menu actions of all the options are appended to the options menu in a single
+     * fragment.
+     *
+     * @param options the options to add
+     * @return same select instance
+     */
     public S addOptions(List<SelectOption<V>> options) {
-        options.forEach(this::appendChild);
+        List<DropdownAction<SelectOption<V>>> actions = new ArrayList<>(options.size());
+        for (SelectOption<V> option : options) {
+            this.options.add(option);
+            indexOption(option, false);
+            actions.add(asDropDownAction(option));
+        }
+        optionsMenu.appendChildren(actions);
         return (S) this;
     }
 
@@ -172,12 +186,14 @@ public abstract class AbstractSelect<T, V, S extends AbstractSelect<T, V, S>> ex
 
     public S appendChild(SelectOption<V> option) {
         options.add(option);
+        indexOption(option, false);
         appendOptionValue(option);
         return (S) this;
     }
 
     public S insertFirst(SelectOption<V> option) {
         options.add(0, option);
+        indexOption(option, true);
         insertFirstOptionValue(option);
         return (S) this;
     }
@@ -200,10 +216,54 @@ public abstract class AbstractSelect<T, V, S extends AbstractSelect<T, V, S>> ex
     }
 
     private DropdownAction<SelectOption<V>> asDropDownAction(SelectOption<V> option) {
-        return DropdownAction.create(option, option.element())
+        DropdownAction<SelectOption<V>> action = DropdownAction.create(option, option.element())
                 .setAutoClose(this.autoCloseOnSelect)
                 .setExcludeFromSearchResults(option.isExcludeFromSearchResults())
                 .addSelectionHandler(value -> doSelectOption(option));
+        optionsActions.put(option, action);
+        return action;
+    }
+
+    private void indexOption(SelectOption<V> option, boolean first) {
+        addToIndex(optionsByKey, option.getKey(), option, first);
+        addToIndex(optionsByValue, option.getValue(), option, first);
+    }
+
+    private void removeFromIndexes(SelectOption<V> option) {
+        removeFromIndex(optionsByKey, option.getKey(), option);
+        removeFromIndex(optionsByValue, option.getValue(), option);
+    }
+
+    private static <K, O> void addToIndex(Map<K, List<O>> index, K key, O option, boolean first) {
+        List<O> indexed = index.computeIfAbsent(key, k -> new ArrayList<>(1));
+        if (first) {
+            indexed.add(0, option);
+        } else {
+            indexed.add(option);
+        }
+    }
+
+    private static <K, O> void removeFromIndex(Map<K, List<O>> index, K key, O option) {
+        List<O> indexed = index.get(key);
+        if (nonNull(indexed) && indexed.remove(option) && indexed.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+    /**
+     * @return the options with the key in the order they were added, looked up in an index kept as options are added
+     * and removed, the keys of the options are not expected to change once they are added to the select
+     */
+    public List<SelectOption<V>> getOptionsByKey(String key) {
+        return Collections.unmodifiableList(optionsByKey.getOrDefault(key, Collections.emptyList()));
+    }
+
+    /**
+     * @return the options with the value in the order they were added, looked up in an index kept as options are added
+     * and removed, the values of the options are not expected to change once they are added to the select
+     */
+    public List<SelectOption<V>> getOptionsByValue(V value) {
+        return Collections.unmodifiableList(optionsByValue.getOrDefault(value, Collections.emptyList()));
     }
 
     public S selectAt(int index) {
@@ -332,8 +392,11 @@ public abstract class AbstractSelect<T, V, S extends AbstractSelect<T, V, S>> ex
     }
 
     public S removeOption(SelectOption<V> option) {
-        if (nonNull(option) && getOptions().contains(option)) {
+        if (nonNull(option) && optionsActions.containsKey(option)) {
             option.deselect(true);
+            options.remove(option);
+            removeFromIndexes(option);
+            optionsMenu.removeAction(optionsActions.remove(option));
             option.element().remove();
         }
         return (S) this;
@@ -348,6 +411,9 @@ public abstract class AbstractSelect<T, V, S extends AbstractSelect<T, V, S>> ex
 
     public S removeAllOptions() {
         options.clear();
+        optionsByKey.clear();
+        optionsByValue.clear();
+        optionsActions.clear();
         optionsMenu.clearActions();
         clear();
         if (isClearable()) {
@@ -416,11 +482,11 @@ public abstract class AbstractSelect<T, V, S extends AbstractSelect<T, V, S>> ex
     }
 
     public boolean containsKey(String key) {
-        return getKeys().contains(key);
+        return optionsByKey.containsKey(key);
     }
 
     public boolean containsValue(V value) {
-        return getValues().contains(value);
+        return optionsByValue.containsKey(value);
     }
 
     public S setSearchable(boolean searchable) {
@@ -433,6 +499,23 @@ public abstract class AbstractSelect<T, V, S extends AbstractSelect<T, V, S>> ex
         return searchable;
     }
 
+    /**
+     * Attaches only the options in the visible area of the options menu while it is open, use it for selects with
+     * thousands of options, the elements of all the options are still created up front, see
+     * {@link DropDownMenu#setVirtualScroll(boolean)}.
+     *
+     * @param virtualScroll boolean
+     * @return same select instance
+     */
+    public S setVirtualScroll(boolean virtualScroll) {
+        optionsMenu.setVirtualScroll(virtualScroll);
+        return (S) this;
+    }
+
+    public boolean isVirtualScroll() {
+        return optionsMenu.isVirtualScroll();
+    }
+
     public static void closeAllSelects() {
         DropDownMenu.closeAllMenus();
     }
@@ -442,10 +525,8 @@ public abstract class AbstractSelect<T, V, S extends AbstractSelect<T, V, S>> ex
     }
 
     public S selectByKey(String key, boolean silent) {
-        for (SelectOption<V> option : getOptions()) {
-            if (option.getKey().equals(key)) {
-                select(option, silent);
-            }
+        for (SelectOption<V> option : getOptionsByKey(key)) {
+            select(option, silent);
         }
         return (S) this;
     }
@@ -1,6 +1,7 @@
 package org.dominokit.domino.ui.forms;
 
 import java.util.ArrayList;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -73,8 +74,8 @@ public class MultiSelect<T> extends AbstractSelect<List<T>, T, MultiSelect<T>> {
     public MultiSelect<T> setValue(List<T> value, boolean silent) {
         if (isNull(value))
             return this;
-        for (SelectOption<T> option : getOptions()) {
-            if (value.contains(option.getValue())) {
+        for (T item : new LinkedHashSet<>(value)) {
+            for (SelectOption<T> option : getOptionsByValue(item)) {
                 select(option, silent);
             }
         }
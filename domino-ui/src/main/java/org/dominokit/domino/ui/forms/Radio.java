@@ -58,7 +58,7 @@ public class Radio<T> extends BaseDominoElement<HTMLDivElement, Radio<T>> implem
     private void linkLabelToField() {
         DominoElement<HTMLInputElement> asDominoElement = DominoElement.of(inputElement);
         if (!asDominoElement.hasAttribute("id")) {
-            inputElement.setAttribute("id", asDominoElement.getAttribute(BaseDominoElement.DOMINO_UUID));
+            inputElement.setAttribute("id", asDominoElement.getDominoId());
         }
         labelElement.setAttribute("for", asDominoElement.getAttribute("id"));
     }
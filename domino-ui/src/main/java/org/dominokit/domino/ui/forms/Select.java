@@ -1,7 +1,6 @@
 package org.dominokit.domino.ui.forms;
 
 import java.util.List;
-import java.util.Objects;
 
 import static java.util.Objects.nonNull;
 
@@ -68,10 +67,8 @@ public class Select<T> extends AbstractSelect<T, T, Select<T>> {
 
     @Override
     public Select<T> setValue(T value, boolean silent) {
-        for (SelectOption<T> option : getOptions()) {
-            if (Objects.equals(option.getValue(), value)) {
-                select(option, silent);
-            }
+        for (SelectOption<T> option : getOptionsByValue(value)) {
+            select(option, silent);
         }
         return this;
     }
@@ -1,6 +1,8 @@
 package org.dominokit.domino.ui.forms;
 
 import elemental2.dom.*;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
 import org.dominokit.domino.ui.dropdown.DropDownMenu;
 import org.dominokit.domino.ui.dropdown.DropDownPosition;
 import org.dominokit.domino.ui.dropdown.DropdownAction;
@@ -15,7 +17,10 @@ import org.dominokit.domino.ui.utils.HasSelectionHandler;
 import org.jboss.elemento.Elements;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static elemental2.dom.DomGlobal.document;
@@ -28,6 +33,7 @@ import static org.jboss.elemento.Elements.div;
 public class SuggestBox<T> extends AbstractValueBox<SuggestBox<T>, HTMLInputElement, T> implements HasSelectionHandler<SuggestBox<T>, SuggestItem<T>> {
 
     private static final String TEXT = "text";
+    private static final String SUGGEST_BOX_KEY = "dominoSuggestBox";
     private DropDownMenu suggestionsMenu;
     private List<SelectionHandler<SuggestItem<T>>> selectionHandlers = new ArrayList<>();
     private SuggestBoxStore<T> store;
@@ -42,6 +48,8 @@ public class SuggestBox<T> extends AbstractValueBox<SuggestBox<T>, HTMLInputElem
     private boolean focusOnClose = true;
     private DelayedTextInput.DelayedAction delayedAction = () -> {
         if (isEmpty()) {
+            cancelPendingRequest();
+            renderedQuery = null;
             suggestionsMenu.close();
             clearValue();
         } else {
@@ -49,6 +57,15 @@ public class SuggestBox<T> extends AbstractValueBox<SuggestBox<T>, HTMLInputElem
         }
     };
     private boolean autoSelect = true;
+    private int minQueryLength = 0;
+    private int maxSuggestions = 0;
+    private String loadMoreText = "Load more...";
+    private int requestSequence = 0;
+    private String pendingQuery;
+    private String renderedQuery;
+    private Map<String, CachedSuggestions<T>> suggestionsCache = new HashMap<>();
+    private int cacheSize = 0;
+    private double cacheTtl = 60000;
 
     public SuggestBox() {
         this("");
@@ -138,29 +155,172 @@ public class SuggestBox<T> extends AbstractValueBox<SuggestBox<T>, HTMLInputElem
         return new SuggestBox<T>(label, store);
     }
 
+    /**
+     * Requests the suggestions of the current value, each request is numbered and only the suggestions of the latest
+     * request are rendered, a request that is still pending when a newer one starts is canceled in the store.
+     */
     private void search() {
         if (store != null) {
+            String query = getStringValue();
+            if (isNull(query) || query.length() < minQueryLength) {
+                cancelPendingRequest();
+                renderedQuery = null;
+                suggestionsMenu.clearActions();
+                suggestionsMenu.close();
+                return;
+            }
+            if (query.equals(renderedQuery) && suggestionsMenu.isOpened()) {
+                return;
+            }
+            cancelPendingRequest();
+            CachedSuggestions<T> cached = getCachedSuggestions(query);
+            if (nonNull(cached)) {
+                renderSuggestions(query, cached.suggestions);
+                return;
+            }
+
+            int sequence = ++requestSequence;
+            pendingQuery = query;
             loader.start();
             suggestionsMenu.clearActions();
             suggestionsMenu.close();
-            store.filter(getStringValue(), suggestions -> {
-                selectedItem = null;
-                suggestionsMenu.clearActions();
-
-                if (suggestions.isEmpty()) {
-                    applyMissingEntry(getStringValue());
+            store.filter(query, suggestions -> {
+                if (sequence != requestSequence) {
+                    return;
                 }
-
-                suggestions.forEach(suggestion -> {
-                    suggestion.highlight(SuggestBox.this.getStringValue(), highlightColor);
-                    suggestionsMenu.appendChild(dropdownAction(suggestion));
-                });
-                suggestionsMenu.open(false);
+                pendingQuery = null;
                 loader.stop();
+                cacheSuggestions(query, suggestions);
+                renderSuggestions(query, suggestions);
             });
         }
     }
 
+    private void cancelPendingRequest() {
+        requestSequence++;
+        if (nonNull(pendingQuery)) {
+            String canceledQuery = pendingQuery;
+            pendingQuery = null;
+            loader.stop();
+            store.cancelFilter(canceledQuery);
+        }
+    }
+
+    private void renderSuggestions(String query, List<SuggestItem<T>> suggestions) {
+        selectedItem = null;
+        renderedQuery = query;
+        suggestionsMenu.clearActions();
+
+        if (suggestions.isEmpty()) {
+            applyMissingEntry(query);
+        }
+
+        appendSuggestions(query, suggestions, 0);
+        suggestionsMenu.open(false);
+    }
+
+    private void appendSuggestions(String query, List<SuggestItem<T>> suggestions, int from) {
+        int to = maxSuggestions > 0 ? Math.min(suggestions.size(), from + maxSuggestions) : suggestions.size();
+        List<DropdownAction> actions = new ArrayList<>(to - from + 1);
+        for (SuggestItem<T> suggestion : suggestions.subList(from, to)) {
+            suggestion.highlight(query, highlightColor);
+            actions.add(dropdownAction(suggestion));
+        }
+        if (to < suggestions.size()) {
+            DropdownAction<String> loadMoreAction = DropdownAction.create(loadMoreText)
+                    .setAutoClose(false)
+                    .setExcludeFromSearchResults(true);
+            loadMoreAction.addSelectionHandler(value -> {
+                suggestionsMenu.removeAction(loadMoreAction);
+                int firstLoadedIndex = suggestionsMenu.getActions().size();
+                appendSuggestions(query, suggestions, to);
+                suggestionsMenu.selectAt(firstLoadedIndex);
+            });
+            actions.add(loadMoreAction);
+        }
+        suggestionsMenu.appendChildren(actions);
+    }
+
+    private CachedSuggestions<T> getCachedSuggestions(String query) {
+        CachedSuggestions<T> cached = suggestionsCache.get(query);
+        if (nonNull(cached) && System.currentTimeMillis() - cached.time > cacheTtl) {
+            suggestionsCache.remove(query);
+            return null;
+        }
+        return cached;
+    }
+
+    private void cacheSuggestions(String query, List<SuggestItem<T>> suggestions) {
+        if (cacheSize > 0) {
+            suggestionsCache.put(query, new CachedSuggestions<>(new ArrayList<>(suggestions), System.currentTimeMillis()));
+        }
+    }
+
+    /**
+     * @param minQueryLength the minimum length of the value before suggestions are requested, defaults to 0
+     * @return same suggest box instance
+     */
+    public SuggestBox<T> setMinQueryLength(int minQueryLength) {
+        this.minQueryLength = Math.max(0, minQueryLength);
+        return this;
+    }
+
+    public int getMinQueryLength() {
+        return minQueryLength;
+    }
+
+    /**
+     * @param maxSuggestions the maximum count of suggestions shown at once, the rest are shown in pages of the same
+     *                       size by a load more action at the end of the menu, 0 shows all the suggestions, defaults to 0
+     * @return same suggest box instance
+     */
+    public SuggestBox<T> setMaxSuggestions(int maxSuggestions) {
+        this.maxSuggestions = Math.max(0, maxSuggestions);
+        return this;
+    }
+
+    public int getMaxSuggestions() {
+        return maxSuggestions;
+    }
+
+    public SuggestBox<T> setLoadMoreText(String loadMoreText) {
+        this.loadMoreText = loadMoreText;
+        return this;
+    }
+
+    public String getLoadMoreText() {
+        return loadMoreText;
+    }
+
+    /**
+     * Caches the suggestions of the most recent values so typing a value again does not request its suggestions from
+     * the store again.
+     *
+     * @param cacheSize the count of values to cache the suggestions for, 0 disables the cache, defaults to 0
+     * @param ttl       the time in milliseconds the cached suggestions of a value are used for
+     * @return same suggest box instance
+     */
+    public SuggestBox<T> setSuggestionsCache(int cacheSize, double ttl) {
+        this.cacheSize = Math.max(0, cacheSize);
+        this.cacheTtl = ttl;
+        this.suggestionsCache = new LinkedHashMap<String, CachedSuggestions<T>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedSuggestions<T>> eldest) {
+                return size() > SuggestBox.this.cacheSize;
+            }
+        };
+        return this;
+    }
+
+    /**
+     * Clears the cached suggestions, call it when the suggestions of the store change.
+     */
+    public SuggestBox<T> clearSuggestionsCache() {
+        suggestionsCache.clear();
+        renderedQuery = null;
+        return this;
+    }
+
     @Override
     protected HTMLInputElement createInputElement(String type) {
         return Elements.input(type).element();
@@ -245,7 +405,11 @@ public class SuggestBox<T> extends AbstractValueBox<SuggestBox<T>, HTMLInputElem
     }
 
     public SuggestBox<T> setSuggestBoxStore(SuggestBoxStore<T> store) {
+        if (nonNull(this.store)) {
+            cancelPendingRequest();
+        }
         this.store = store;
+        clearSuggestionsCache();
         return this;
     }
 
@@ -265,12 +429,16 @@ public class SuggestBox<T> extends AbstractValueBox<SuggestBox<T>, HTMLInputElem
 
     private DropdownAction<T> dropdownAction(SuggestItem<T> suggestItem) {
         DropdownAction<T> dropdownAction = suggestItem.asDropDownAction();
-        dropdownAction.addSelectionHandler(value -> {
-            selectedItem = suggestItem;
-            setValue(value);
-            selectionHandlers.forEach(handler -> handler.onSelection(suggestItem));
-            suggestionsMenu.close();
-        });
+        JsPropertyMap<Object> actionProperties = Js.asPropertyMap(dropdownAction.element());
+        if (actionProperties.get(SUGGEST_BOX_KEY) != this) {
+            actionProperties.set(SUGGEST_BOX_KEY, this);
+            dropdownAction.addSelectionHandler(value -> {
+                selectedItem = suggestItem;
+                setValue(value);
+                selectionHandlers.forEach(handler -> handler.onSelection(suggestItem));
+                suggestionsMenu.close();
+            });
+        }
         return dropdownAction;
     }
 
@@ -400,6 +568,16 @@ public class SuggestBox<T> extends AbstractValueBox<SuggestBox<T>, HTMLInputElem
         }
     }
 
+    private static final class CachedSuggestions<T> {
+        private final List<SuggestItem<T>> suggestions;
+        private final double time;
+
+        private CachedSuggestions(List<SuggestItem<T>> suggestions, double time) {
+            this.suggestions = suggestions;
+            this.time = time;
+        }
+    }
+
     private static class SuggestAutoValidator<T> extends AutoValidator {
 
         private SuggestBox<T> suggestBox;
@@ -11,6 +11,16 @@ public interface SuggestBoxStore<T> {
 
     void find(T searchValue, Consumer<SuggestItem<T>> handler);
 
+    /**
+     * Called by the suggest box when a filter request is superseded by a newer one before its suggestions are ready,
+     * the suggestions of the canceled request are ignored, stores that load the suggestions remotely can abort the
+     * request.
+     *
+     * @param value the value of the canceled request
+     */
+    default void cancelFilter(String value) {
+    }
+
     default boolean filterItem(String searchValue, SuggestItem<T> suggestItem) {
         return suggestItem.getDisplayValue().toLowerCase().contains(searchValue.toLowerCase());
     }
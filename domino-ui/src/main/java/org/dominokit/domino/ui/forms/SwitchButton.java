@@ -6,7 +6,6 @@ import elemental2.dom.HTMLLabelElement;
 import org.dominokit.domino.ui.keyboard.KeyboardEvents;
 import org.dominokit.domino.ui.notifications.Notification;
 import org.dominokit.domino.ui.style.Color;
-import org.dominokit.domino.ui.utils.BaseDominoElement;
 import org.dominokit.domino.ui.utils.Checkable;
 import org.dominokit.domino.ui.utils.DominoElement;
 
@@ -90,7 +89,7 @@ public class SwitchButton extends AbstractValueBox<SwitchButton, HTMLElement, Bo
     @Override
     protected void linkLabelToField() {
         if(!inputElement.hasAttribute("id")){
-            inputElement.setAttribute("id", inputElement.getAttribute(BaseDominoElement.DOMINO_UUID));
+            inputElement.setAttribute("id", inputElement.getDominoId());
         }
 
         getLabelElement().setAttribute("for", inputElement.getAttribute("id"));
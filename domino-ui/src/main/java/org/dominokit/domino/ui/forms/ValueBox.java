@@ -158,7 +158,7 @@ public abstract class ValueBox<T extends ValueBox<T, E, V>, E extends HTMLElemen
 
     protected void linkLabelToField() {
         if (!inputElement.hasAttribute("id")) {
-            inputElement.setAttribute("id", inputElement.getAttribute(BaseDominoElement.DOMINO_UUID));
+            inputElement.setAttribute("id", inputElement.getDominoId());
         }
         labelElement.setAttribute("for", inputElement.getAttribute("id"));
     }
@@ -1,19 +1,18 @@
 package org.dominokit.domino.ui.pagination;
 
-import elemental2.dom.DomGlobal;
 import elemental2.dom.EventListener;
 import elemental2.dom.HTMLAnchorElement;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.HTMLLIElement;
-import org.dominokit.domino.ui.forms.Select;
-import org.dominokit.domino.ui.forms.SelectOption;
+import org.dominokit.domino.ui.forms.IntegerBox;
 import org.dominokit.domino.ui.icons.Icons;
 import org.dominokit.domino.ui.keyboard.KeyboardEvents;
 import org.dominokit.domino.ui.utils.DominoElement;
 
+import java.util.Objects;
 import java.util.function.Function;
-import java.util.stream.IntStream;
 
+import static java.util.Objects.nonNull;
 import static org.jboss.elemento.Elements.a;
 import static org.jboss.elemento.Elements.li;
 
@@ -26,7 +25,7 @@ public class AdvancedPagination extends BasePagination<AdvancedPagination> {
     private DominoElement<HTMLAnchorElement> firstPageAnchor;
     private DominoElement<HTMLAnchorElement> nextAnchor;
     private DominoElement<HTMLAnchorElement> lastPageAnchor;
-    private Select<Integer> pagesSelect;
+    private IntegerBox pagesInput;
 
     private Function<Integer, String> pagesCountTextHandler = pagesCount -> " of " + pagesCount + " Pages";
 
@@ -92,18 +91,17 @@ public class AdvancedPagination extends BasePagination<AdvancedPagination> {
                 .appendChild(firstPage)
                 .appendChild(prevElement);
 
-        pagesSelect = Select.<Integer>create()
-                .styler(style -> style.setMarginBottom("0px"))
-                .addSelectionHandler(option -> moveToPage(option.getValue(), false));
-
-        if (pages > 0) {
-            IntStream.rangeClosed(1, pages).forEach(p -> {
-                pagesSelect.appendChild(SelectOption.create(p, p + "")
-                        .apply(element -> allPages.add(DominoElement.of(element.element()))));
-            });
-        }
-
-        pagesElement.appendChild(DominoElement.of(li()).appendChild(a().style("margin-left: 10px; margin-right: 10px;").add(pagesSelect)));
+        pagesInput = IntegerBox.create()
+                .setMinValue(1)
+                .setMaxValue(Math.max(1, pages))
+                .styler(style -> style.setMarginBottom("0px").setWidth("80px"))
+                .addChangeHandler(page -> {
+                    if (nonNull(page) && page != index) {
+                        moveToPage(page, false);
+                    }
+                });
+
+        pagesElement.appendChild(DominoElement.of(li()).appendChild(a().style("margin-left: 10px; margin-right: 10px;").add(pagesInput)));
         pagesElement.appendChild(DominoElement.of(li()).appendChild(a().css("adv-page-count").textContent(pagesCountTextHandler.apply(pages))));
 
         nextAnchor = DominoElement.of(a());
@@ -123,8 +121,7 @@ public class AdvancedPagination extends BasePagination<AdvancedPagination> {
                                 .clickable()));
 
         addListenerToElement(lastPageAnchor, event -> {
-            DomGlobal.console.info("going to last page : " + allPages.size());
-            moveToPage(allPages.size(), false);
+            moveToPage(pagesCount, false);
         });
 
         if (pages > 0) {
@@ -188,7 +185,9 @@ public class AdvancedPagination extends BasePagination<AdvancedPagination> {
             }
 
 
-            pagesSelect.selectAt(page - 1, true);
+            if (!Objects.equals(pagesInput.getValue(), page)) {
+                pagesInput.value(page);
+            }
 
         }
     }
@@ -1,12 +1,11 @@
 package org.dominokit.domino.ui.pagination;
 
 import elemental2.dom.HTMLAnchorElement;
+import elemental2.dom.HTMLElement;
 import elemental2.dom.HTMLLIElement;
 import org.dominokit.domino.ui.icons.Icons;
 import org.dominokit.domino.ui.utils.DominoElement;
 
-import java.util.stream.IntStream;
-
 import static java.util.Objects.nonNull;
 import static org.jboss.elemento.Elements.a;
 import static org.jboss.elemento.Elements.li;
@@ -30,6 +29,7 @@ public class ScrollingPagination extends BasePagination<ScrollingPagination> {
 
     private int windowSize = 10;
     private int windowIndex = 0;
+    private DominoElement<? extends HTMLElement> pagesWindowEnd;
 
     public static ScrollingPagination create() {
         return new ScrollingPagination();
@@ -107,18 +107,10 @@ public class ScrollingPagination extends BasePagination<ScrollingPagination> {
                 .appendChild(prevSet)
                 .appendChild(prevElement);
 
-        if (pages > 0) {
-            IntStream.rangeClosed(1, pages).forEach(p -> DominoElement.of(li().css("page"))
-                    .apply(element -> {
-                        allPages.add(element);
-                        pagesElement.appendChild(element
-                                .appendChild(DominoElement.of(a())
-                                        .setTextContent(p + "")
-                                        .addClickListener(evt -> moveToPage(p, false)))
-                                .toggleDisplay(p <= windowSize)
-                        );
-                    }));
-        }
+        this.windowIndex = -1;
+        this.pagesWindowEnd = prevElement;
+        this.dotsElement = null;
+        this.pagesCountPageElement = null;
 
         if (pages > windowSize) {
             dotsAnchor = DominoElement.of(a());
@@ -159,7 +151,12 @@ public class ScrollingPagination extends BasePagination<ScrollingPagination> {
                         .setTooltip("Last page")
                         .appendChild(Icons.ALL.skip_next()
                                 .clickable())
-                        .addClickListener(event -> moveToPage(allPages.size(), false)));
+                        .addClickListener(event -> moveToPage(pagesCount, false)));
+
+        pagesElement
+                .appendChild(nextElement)
+                .appendChild(nextSet)
+                .appendChild(lastPage);
 
         if (pages > 0) {
             moveToPage(1, true);
@@ -170,11 +167,6 @@ public class ScrollingPagination extends BasePagination<ScrollingPagination> {
             prevElement.disable();
         }
 
-        pagesElement
-                .appendChild(nextElement)
-                .appendChild(nextSet)
-                .appendChild(lastPage);
-
         return this;
     }
 
@@ -183,8 +175,9 @@ public class ScrollingPagination extends BasePagination<ScrollingPagination> {
         if (page > 0 && page <= pagesCount) {
 
             index = page;
+            showPageWindow(page);
             if (markActivePage) {
-                gotoPage(allPages.get(page - 1));
+                gotoPage(allPages.get(page - (windowIndex * windowSize) - 1));
             }
 
             if (!silent) {
@@ -212,8 +205,7 @@ public class ScrollingPagination extends BasePagination<ScrollingPagination> {
                 firstPage.enable();
             }
 
-            showPageWindow(page);
-
+            updateWindowNavigation();
         }
     }
 
@@ -223,14 +215,16 @@ public class ScrollingPagination extends BasePagination<ScrollingPagination> {
         } else {
             showWindow(page / windowSize);
         }
+    }
 
+    private void updateWindowNavigation() {
         if (windowIndex == 0) {
             prevSet.disable();
         } else {
             prevSet.enable();
         }
 
-        int windowCount = (allPages.size() / windowSize) + (allPages.size() % windowSize > 0 ? 1 : 0);
+        int windowCount = (pagesCount / windowSize) + (pagesCount % windowSize > 0 ? 1 : 0);
         if (windowIndex >= windowCount - 1) {
             nextSet.disable();
             if (nonNull(dotsElement) && nonNull(pagesCountPageElement)) {
@@ -245,27 +239,34 @@ public class ScrollingPagination extends BasePagination<ScrollingPagination> {
                 pagesCountPageElement.show();
             }
         }
-
     }
 
+    /**
+     * Only the page elements of the current window are rendered, moving to another window reuses them for the new
+     * pages numbers instead of creating an element for every page.
+     */
     private void showWindow(int index) {
-
         if (index != this.windowIndex) {
-            int windowMinLimit = windowIndex * windowSize;
-            int windowMaxLimit = windowMinLimit + windowSize;
-
-            for (int i = windowMinLimit; i < windowMaxLimit; i++) {
-                if (i < allPages.size()) {
-                    allPages.get(i).hide();
-                }
+            int windowMinLimit = index * windowSize;
+            int size = Math.min(windowSize, pagesCount - windowMinLimit);
+
+            while (allPages.size() < size) {
+                int slot = allPages.size();
+                DominoElement<HTMLLIElement> pageElement = DominoElement.of(li().css("page"))
+                        .appendChild(DominoElement.of(a())
+                                .addClickListener(evt -> moveToPage((windowIndex * windowSize) + slot + 1, false)));
+                pagesElement.insertAfter(pageElement, pagesWindowEnd);
+                pagesWindowEnd = pageElement;
+                allPages.add(pageElement);
             }
 
-            int targetWindowMinLimit = index * windowSize;
-            int targetWindowMaxLimit = targetWindowMinLimit + windowSize;
-
-            for (int i = targetWindowMinLimit; i < targetWindowMaxLimit; i++) {
-                if (i < allPages.size()) {
-                    allPages.get(i).show();
+            for (int slot = 0; slot < allPages.size(); slot++) {
+                DominoElement<? extends HTMLElement> pageElement = allPages.get(slot);
+                if (slot < size) {
+                    pageElement.firstChild().textContent = (windowMinLimit + slot + 1) + "";
+                    pageElement.show();
+                } else {
+                    pageElement.hide();
                 }
             }
 
@@ -1,11 +1,11 @@
 package org.dominokit.domino.ui.pagination;
 
 import elemental2.dom.HTMLAnchorElement;
+import elemental2.dom.HTMLLIElement;
+import elemental2.dom.Node;
 import org.dominokit.domino.ui.icons.Icons;
 import org.dominokit.domino.ui.utils.DominoElement;
 
-import java.util.stream.IntStream;
-
 import static org.jboss.elemento.Elements.a;
 import static org.jboss.elemento.Elements.li;
 
@@ -13,6 +13,8 @@ public class SimplePagination extends BasePagination<SimplePagination> {
 
     private DominoElement<HTMLAnchorElement> prevAnchor;
     private DominoElement<HTMLAnchorElement> nextAnchor;
+    private int windowSize = 10;
+    private int windowStart = 1;
 
     public static SimplePagination create() {
         return new SimplePagination();
@@ -60,18 +62,7 @@ public class SimplePagination extends BasePagination<SimplePagination> {
                         .addClickListener(event -> moveToPage(index - 1, false)));
 
         pagesElement.appendChild(prevElement);
-        if (pages > 0) {
-            IntStream.rangeClosed(1, pages).forEach(p -> DominoElement.of(li().css("page"))
-                    .apply(element -> {
-                        allPages.add(element);
-                        pagesElement.appendChild(element
-                                .appendChild(DominoElement.of(a())
-                                        .setTextContent(p + "")
-                                        .addClickListener(evt -> moveToPage(p, false)))
-                        );
-                    }));
-
-        }
+        windowStart = 1;
 
         nextAnchor = DominoElement.of(a());
         nextElement = DominoElement.of(li().css("page-nav"))
@@ -81,6 +72,8 @@ public class SimplePagination extends BasePagination<SimplePagination> {
                                 .clickable())
                         .addClickListener(event -> moveToPage(index + 1, false)));
 
+        pagesElement.appendChild(nextElement);
+
         if (pages > 0) {
             moveToPage(1, true);
         }
@@ -90,8 +83,50 @@ public class SimplePagination extends BasePagination<SimplePagination> {
             prevElement.disable();
         }
 
-        pagesElement.appendChild(nextElement);
+        return this;
+    }
 
+    /**
+     * Renders the page elements of the window that contains the page, page elements are created on demand and reused
+     * when the window moves so only {@link #windowSize} page elements exists regardless of the pages count.
+     */
+    private void showPageWindow(int page) {
+        int size = Math.min(windowSize, pagesCount);
+        int start = Math.max(1, Math.min(page - (size / 2), pagesCount - size + 1));
+
+        while (allPages.size() < size) {
+            int slot = allPages.size();
+            DominoElement<HTMLLIElement> pageElement = DominoElement.of(li().css("page"))
+                    .appendChild(DominoElement.of(a())
+                            .addClickListener(evt -> moveToPage(windowStart + slot, false)));
+            allPages.add(pageElement);
+            pagesElement.insertBefore(pageElement, nextElement);
+        }
+        while (allPages.size() > size) {
+            allPages.remove(allPages.size() - 1).remove();
+        }
+
+        windowStart = start;
+        for (int slot = 0; slot < allPages.size(); slot++) {
+            Node anchor = allPages.get(slot).firstChild();
+            anchor.textContent = (start + slot) + "";
+        }
+    }
+
+    public int getWindowSize() {
+        return windowSize;
+    }
+
+    public SimplePagination setWindowSize(int windowSize) {
+        if (windowSize > 0) {
+            this.windowSize = windowSize;
+            if (pagesCount > 0) {
+                showPageWindow(index);
+                if (markActivePage) {
+                    gotoPage(allPages.get(index - windowStart));
+                }
+            }
+        }
         return this;
     }
 
@@ -100,8 +135,9 @@ public class SimplePagination extends BasePagination<SimplePagination> {
     protected void moveToPage(int page, boolean silent) {
         if (page > 0 && page <= pagesCount) {
             index = page;
+            showPageWindow(page);
             if (markActivePage) {
-                gotoPage(allPages.get(page - 1));
+                gotoPage(allPages.get(page - windowStart));
             }
 
             if (!silent) {
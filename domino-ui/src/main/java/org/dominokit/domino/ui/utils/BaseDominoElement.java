@@ -43,15 +43,29 @@ public abstract class BaseDominoElement<E extends HTMLElement, T extends IsEleme
     @Editor.Ignore
     protected void init(T element) {
         this.element = element;
+        initDominoId();
+        this.collapsible = Collapsible.create(getCollapsibleElement());
+        this.style = Style.of(element);
+    }
+
+    /**
+     * Initializes the wrapper without writing to the DOM, the domino uuid, the {@link Collapsible} and the {@link Style}
+     * will be created the first time they are used.
+     *
+     * @param element the wrapper element
+     */
+    @Editor.Ignore
+    protected void initLazy(T element) {
+        this.element = element;
+    }
 
+    private void initDominoId() {
         if (hasDominoId()) {
             uuid = getAttribute(DOMINO_UUID);
         } else {
             this.uuid = Elements.uniqueId();
             setAttribute(DOMINO_UUID, this.uuid);
         }
-        this.collapsible = Collapsible.create(getCollapsibleElement());
-        this.style = Style.of(element);
     }
 
     private boolean hasDominoId() {
@@ -72,31 +86,34 @@ public abstract class BaseDominoElement<E extends HTMLElement, T extends IsEleme
     @Override
     @Editor.Ignore
     public T toggleDisplay() {
-        collapsible.toggleDisplay();
+        getCollapsible().toggleDisplay();
         return element;
     }
 
     @Override
     @Editor.Ignore
     public T toggleDisplay(boolean state) {
-        collapsible.toggleDisplay(state);
+        getCollapsible().toggleDisplay(state);
         return element;
     }
 
     @Override
     public T show() {
-        collapsible.show();
+        getCollapsible().show();
         return element;
     }
 
     @Override
     public T hide() {
-        collapsible.hide();
+        getCollapsible().hide();
         return element;
     }
 
     @Editor.Ignore
     public Collapsible getCollapsible() {
+        if (isNull(collapsible)) {
+            this.collapsible = Collapsible.create(getCollapsibleElement());
+        }
         return collapsible;
     }
 
@@ -109,10 +126,10 @@ public abstract class BaseDominoElement<E extends HTMLElement, T extends IsEleme
     @Override
     @Editor.Ignore
     public boolean isHidden() {
-        if (isNull(collapsible)) {
+        if (isNull(collapsible) && isNull(element)) {
             return false;
         }
-        return collapsible.isHidden();
+        return getCollapsible().isHidden();
     }
 
     @Override
@@ -154,23 +171,26 @@ public abstract class BaseDominoElement<E extends HTMLElement, T extends IsEleme
 
     @Editor.Ignore
     public boolean isAttached() {
-        return nonNull(DomGlobal.document.body.querySelector("[domino-uuid='" + uuid + "']"));
+        return DomGlobal.document.body.contains(element());
     }
 
     @Editor.Ignore
     public Style<E, T> style() {
+        if (isNull(style)) {
+            this.style = Style.of(element);
+        }
         return style;
     }
 
     @Editor.Ignore
     public T css(String cssClass) {
-        style.add(cssClass);
+        style().add(cssClass);
         return element;
     }
 
     @Editor.Ignore
     public T css(String... cssClasses) {
-        style.add(cssClasses);
+        style().add(cssClasses);
         return element;
     }
 
@@ -459,7 +479,7 @@ public abstract class BaseDominoElement<E extends HTMLElement, T extends IsEleme
     public T hideOn(ScreenMedia screenMedia) {
         removeHideOn();
         this.hideOn = screenMedia;
-        style.add("hide-on-" + this.hideOn.getStyle());
+        style().add("hide-on-" + this.hideOn.getStyle());
 
         return element;
     }
@@ -467,7 +487,7 @@ public abstract class BaseDominoElement<E extends HTMLElement, T extends IsEleme
     @Editor.Ignore
     public T removeHideOn() {
         if (nonNull(hideOn)) {
-            style.remove("hide-on-" + hideOn.getStyle());
+            style().remove("hide-on-" + hideOn.getStyle());
         }
 
         return element;
@@ -477,7 +497,7 @@ public abstract class BaseDominoElement<E extends HTMLElement, T extends IsEleme
     public T showOn(ScreenMedia screenMedia) {
         removeShowOn();
         this.showOn = screenMedia;
-        style.add("show-on-" + this.showOn.getStyle());
+        style().add("show-on-" + this.showOn.getStyle());
 
         return element;
     }
@@ -485,7 +505,7 @@ public abstract class BaseDominoElement<E extends HTMLElement, T extends IsEleme
     @Editor.Ignore
     public T removeShowOn() {
         if (nonNull(showOn)) {
-            style.remove("show-on-" + showOn.getStyle());
+            style().remove("show-on-" + showOn.getStyle());
         }
 
         return element;
@@ -610,6 +630,9 @@ public abstract class BaseDominoElement<E extends HTMLElement, T extends IsEleme
 
     @Editor.Ignore
     public String getDominoId() {
+        if (isNull(uuid)) {
+            initDominoId();
+        }
         return uuid;
     }
 
@@ -646,13 +669,13 @@ public abstract class BaseDominoElement<E extends HTMLElement, T extends IsEleme
 
     public T elevate(Elevation elevation) {
         if (nonNull(this.elevation)) {
-            style.remove(this.elevation.getStyle());
+            style().remove(this.elevation.getStyle());
         } else {
             Elevation.removeFrom(element());
         }
 
         this.elevation = elevation;
-        style.add(this.elevation.getStyle());
+        style().add(this.elevation.getStyle());
         return (T) this;
     }
 
@@ -692,31 +715,31 @@ public abstract class BaseDominoElement<E extends HTMLElement, T extends IsEleme
     @Deprecated
     @Editor.Ignore
     public T removeShowHandler(Collapsible.ShowCompletedHandler handler) {
-        collapsible.removeShowHandler(handler);
+        getCollapsible().removeShowHandler(handler);
         return (T) this;
     }
 
     @Editor.Ignore
     public T addHideListener(Collapsible.HideCompletedHandler handler) {
-        collapsible.addHideHandler(handler);
+        getCollapsible().addHideHandler(handler);
         return (T) this;
     }
 
     @Editor.Ignore
     public T removeHideListener(Collapsible.HideCompletedHandler handler) {
-        collapsible.removeHideHandler(handler);
+        getCollapsible().removeHideHandler(handler);
         return (T) this;
     }
 
     @Editor.Ignore
     public T addShowListener(Collapsible.ShowCompletedHandler handler) {
-        collapsible.addShowHandler(handler);
+        getCollapsible().addShowHandler(handler);
         return (T) this;
     }
 
     @Editor.Ignore
     public T removeShowListener(Collapsible.ShowCompletedHandler handler) {
-        collapsible.removeShowHandler(handler);
+        getCollapsible().removeShowHandler(handler);
         return (T) this;
     }
 
@@ -1,14 +1,11 @@
 package org.dominokit.domino.ui.utils;
 
-import elemental2.core.JsArray;
 import elemental2.dom.*;
 import jsinterop.base.Js;
 import org.jboss.elemento.Elements;
 import org.jboss.elemento.ObserverCallback;
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.function.Consumer;
+import java.util.*;
 
 import static elemental2.dom.DomGlobal.document;
 import static java.util.Objects.isNull;
@@ -19,22 +16,15 @@ final class BodyObserver {
     private static String ATTACH_UID_KEY = "on-attach-uid";
     private static String DETACH_UID_KEY = "on-detach-uid";
 
-    private static List<ElementObserver> detachObservers = new ArrayList<>();
-    private static List<ElementObserver> attachObservers = new ArrayList<>();
+    private static final ObserversIndex attachObservers = new ObserversIndex(ATTACH_UID_KEY);
+    private static final ObserversIndex detachObservers = new ObserversIndex(DETACH_UID_KEY);
+    private static ObserverMetricsListener metricsListener;
     private static boolean ready = false;
 
     private static void startObserving() {
         MutationObserver mutationObserver = new MutationObserver(
                 (MutationRecord[] records, MutationObserver observer) -> {
-                    for (MutationRecord record : records) {
-                        if (!record.removedNodes.asList().isEmpty()) {
-                            onElementsRemoved(record);
-                        }
-
-                        if (!record.addedNodes.asList().isEmpty()) {
-                            onElementsAppended(record);
-                        }
-                    }
+                    onMutations(records);
                     return null;
                 });
 
@@ -45,58 +35,32 @@ final class BodyObserver {
         ready = true;
     }
 
-    private static void onElementsAppended(MutationRecord record) {
-        List<Node> nodes = record.addedNodes.asList();
-        List<ElementObserver> observed = new ArrayList<>();
-        for (ElementObserver elementObserver : attachObservers) {
-            if (isNull(elementObserver.observedElement())) {
-                observed.add(elementObserver);
-            } else {
-                if (nodes.contains(elementObserver.observedElement()) || isChildOfAddedNode(record, elementObserver.attachId())) {
-                    elementObserver.callback().onObserved(record);
-                    observed.add(elementObserver);
-                }
+    /**
+     * Collects the observers of all the records first then calls them in one pass, each added or removed subtree is
+     * scanned once for the uid attribute regardless of how many observers are registered.
+     */
+    private static void onMutations(MutationRecord[] records) {
+        List<PendingCallback> detachCallbacks = new ArrayList<>();
+        List<PendingCallback> attachCallbacks = new ArrayList<>();
+        for (MutationRecord record : records) {
+            if (!detachObservers.isEmpty() && record.removedNodes.length > 0) {
+                detachObservers.collect(record, record.removedNodes, detachCallbacks);
             }
-        }
-
-        attachObservers.removeAll(observed);
-    }
-
-    private static boolean isChildOfAddedNode(MutationRecord record, String attachId) {
-        return isChildOfObservedNode(attachId, record.addedNodes.asList(), ATTACH_UID_KEY);
-    }
-
-    private static void onElementsRemoved(MutationRecord record) {
-        List<Node> nodes = record.removedNodes.asList();
-        List<ElementObserver> observed = new ArrayList<>();
-        for (ElementObserver elementObserver : detachObservers) {
-            if (isNull(elementObserver.observedElement())) {
-                observed.add(elementObserver);
-            } else {
-                if (nodes.contains(elementObserver.observedElement()) || isChildOfRemovedNode(record, elementObserver.attachId())) {
-                    elementObserver.callback().onObserved(record);
-                    observed.add(elementObserver);
-                }
+            if (!attachObservers.isEmpty() && record.addedNodes.length > 0) {
+                attachObservers.collect(record, record.addedNodes, attachCallbacks);
             }
         }
-        detachObservers.removeAll(observed);
-    }
-
-    private static boolean isChildOfRemovedNode(MutationRecord record, final String detachId) {
-        return isChildOfObservedNode(detachId, record.removedNodes.asList(), DETACH_UID_KEY);
-    }
 
-    private static boolean isChildOfObservedNode(String attachId, List<Node> nodes, String attachUidKey) {
+        detachCallbacks.forEach(PendingCallback::call);
+        attachCallbacks.forEach(PendingCallback::call);
 
-        for (int i = 0; i < nodes.size(); i++) {
-            Node elementNode = Js.uncheckedCast(nodes.get(i));
-            if (Node.ELEMENT_NODE == elementNode.nodeType) {
-                if (nonNull(elementNode.querySelector("[" + attachUidKey + "='" + attachId + "']"))) {
-                    return true;
-                }
-            }
+        if (nonNull(metricsListener)) {
+            metricsListener.onMutationsProcessed(new ObserverMetrics(records.length,
+                    attachCallbacks.size(),
+                    detachCallbacks.size(),
+                    attachObservers.size(),
+                    detachObservers.size()));
         }
-        return false;
     }
 
     /**
@@ -107,9 +71,7 @@ final class BodyObserver {
         if (!ready) {
             startObserving();
         }
-        ElementObserver observer = createObserver(element, callback, ATTACH_UID_KEY, elementObserver -> attachObservers.remove(elementObserver));
-        attachObservers.add(observer);
-        return observer;
+        return attachObservers.add(element, callback);
     }
 
     /**
@@ -120,44 +82,126 @@ final class BodyObserver {
         if (!ready) {
             startObserving();
         }
-        ElementObserver observer = createObserver(element, callback, DETACH_UID_KEY, elementObserver -> detachObservers.remove(elementObserver));
-        detachObservers.add(observer);
+        return detachObservers.add(element, callback);
+    }
 
-        return observer;
+    static int pendingAttachObservers() {
+        return attachObservers.size();
     }
 
-    private static ElementObserver createObserver(HTMLElement element, ObserverCallback callback,
-                                                  String idAttributeName, Consumer<ElementObserver> onRemoveHandler) {
-        String elementId = element.getAttribute(idAttributeName);
-        if (elementId == null) {
-            element.setAttribute(idAttributeName, Elements.uniqueId());
+    static int pendingDetachObservers() {
+        return detachObservers.size();
+    }
+
+    static void setMetricsListener(ObserverMetricsListener listener) {
+        metricsListener = listener;
+    }
+
+    private BodyObserver() {
+    }
+
+    private static final class ObserversIndex {
+
+        private final String uidAttribute;
+        private final String uidSelector;
+        private final Map<String, List<ElementObserver>> observers = new HashMap<>();
+        private int size = 0;
+
+        private ObserversIndex(String uidAttribute) {
+            this.uidAttribute = uidAttribute;
+            this.uidSelector = "[" + uidAttribute + "]";
         }
 
-        return new ElementObserver() {
-            @Override
-            public String attachId() {
-                return element.getAttribute(idAttributeName);
+        private ElementObserver add(HTMLElement element, ObserverCallback callback) {
+            String uid = element.getAttribute(uidAttribute);
+            if (isNull(uid)) {
+                uid = Elements.uniqueId();
+                element.setAttribute(uidAttribute, uid);
             }
+            final String observedUid = uid;
+            ElementObserver observer = new ElementObserver() {
+                @Override
+                public String attachId() {
+                    return observedUid;
+                }
+
+                @Override
+                public HTMLElement observedElement() {
+                    return element;
+                }
 
-            @Override
-            public HTMLElement observedElement() {
-                return element;
+                @Override
+                public ObserverCallback callback() {
+                    return callback;
+                }
+
+                @Override
+                public void remove() {
+                    ObserversIndex.this.remove(this);
+                }
+            };
+            if (!observers.containsKey(uid)) {
+                observers.put(uid, new ArrayList<>());
             }
+            observers.get(uid).add(observer);
+            size++;
+            return observer;
+        }
 
-            @Override
-            public ObserverCallback callback() {
-                return callback;
+        private void remove(ElementObserver observer) {
+            List<ElementObserver> uidObservers = observers.get(observer.attachId());
+            if (nonNull(uidObservers) && uidObservers.remove(observer)) {
+                size--;
+                if (uidObservers.isEmpty()) {
+                    observers.remove(observer.attachId());
+                }
             }
+        }
 
-            @Override
-            public void remove() {
-                onRemoveHandler.accept(this);
+        private void collect(MutationRecord record, NodeList<Node> nodes, List<PendingCallback> callbacks) {
+            for (int i = 0; i < nodes.length && !observers.isEmpty(); i++) {
+                Node node = nodes.item(i);
+                if (Node.ELEMENT_NODE == node.nodeType) {
+                    Element element = Js.uncheckedCast(node);
+                    take(record, element.getAttribute(uidAttribute), callbacks);
+                    NodeList<Element> marked = element.querySelectorAll(uidSelector);
+                    for (int j = 0; j < marked.length && !observers.isEmpty(); j++) {
+                        take(record, marked.item(j).getAttribute(uidAttribute), callbacks);
+                    }
+                }
             }
-        };
-    }
+        }
 
-    private BodyObserver() {
+        private void take(MutationRecord record, String uid, List<PendingCallback> callbacks) {
+            if (nonNull(uid)) {
+                List<ElementObserver> uidObservers = observers.remove(uid);
+                if (nonNull(uidObservers)) {
+                    size -= uidObservers.size();
+                    uidObservers.forEach(observer -> callbacks.add(new PendingCallback(observer, record)));
+                }
+            }
+        }
+
+        private boolean isEmpty() {
+            return size == 0;
+        }
+
+        private int size() {
+            return size;
+        }
     }
 
+    private static final class PendingCallback {
+        private final ElementObserver observer;
+        private final MutationRecord record;
+
+        private PendingCallback(ElementObserver observer, MutationRecord record) {
+            this.observer = observer;
+            this.record = record;
+        }
 
+        private void call() {
+            observer.callback().onObserved(record);
+        }
+    }
 }
@@ -4,23 +4,48 @@ import elemental2.dom.DomGlobal;
 import elemental2.dom.HTMLBodyElement;
 import elemental2.dom.HTMLDivElement;
 import elemental2.dom.HTMLElement;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
 import org.jboss.elemento.Elements;
 import org.jboss.elemento.IsElement;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
 public class DominoElement<E extends HTMLElement> extends BaseDominoElement<E, DominoElement<E>> {
 
+    private static final String DOMINO_ELEMENT_KEY = "$dominoElement";
+
     private final E wrappedElement;
 
+    /**
+     * Wraps the element without writing anything to the DOM, the wrapper is cached on the element so calling this
+     * method again for the same element returns the same instance.
+     *
+     * @param element the element to be wrapped
+     * @param <E>     the element type
+     * @return the element wrapper
+     */
     public static <E extends HTMLElement> DominoElement<E> of(E element) {
-        return new DominoElement<>(element);
+        if (isNull(element)) {
+            return new DominoElement<>(null, true);
+        }
+        JsPropertyMap<Object> elementProperties = Js.asPropertyMap(element);
+        Object cached = elementProperties.get(DOMINO_ELEMENT_KEY);
+        if (nonNull(cached)) {
+            return Js.uncheckedCast(cached);
+        }
+        DominoElement<E> dominoElement = new DominoElement<>(element, true);
+        elementProperties.set(DOMINO_ELEMENT_KEY, dominoElement);
+        return dominoElement;
     }
 
     public static <E extends HTMLElement> DominoElement<E> of(IsElement<E> element) {
-        return new DominoElement<>(element.element());
+        return of(element.element());
     }
 
     public static DominoElement<HTMLBodyElement> body() {
-        return new DominoElement<>(DomGlobal.document.body);
+        return of(DomGlobal.document.body);
     }
 
     public static DominoElement<HTMLDivElement> div() {
@@ -32,6 +57,11 @@ public class DominoElement<E extends HTMLElement> extends BaseDominoElement<E, D
         init(this);
     }
 
+    private DominoElement(E element, boolean lazy) {
+        this.wrappedElement = element;
+        initLazy(this);
+    }
+
     @Override
     public E element() {
         return wrappedElement;
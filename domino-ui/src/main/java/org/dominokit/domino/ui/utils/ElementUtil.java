@@ -125,6 +125,30 @@ public class ElementUtil {
         return Optional.empty();
     }
 
+    /**
+     * @return the number of attach observers waiting for their elements to be appended to the document body
+     */
+    public static int getPendingAttachObservers() {
+        return BodyObserver.pendingAttachObservers();
+    }
+
+    /**
+     * @return the number of detach observers waiting for their elements to be removed from the document body
+     */
+    public static int getPendingDetachObservers() {
+        return BodyObserver.pendingDetachObservers();
+    }
+
+    /**
+     * Sets a listener that will be called after each batch of body mutations is processed with the number of callbacks
+     * called and the observers still pending, pass null to remove the listener.
+     *
+     * @param listener {@link ObserverMetricsListener}
+     */
+    public static void setObserverMetricsListener(ObserverMetricsListener listener) {
+        BodyObserver.setMetricsListener(listener);
+    }
+
     public static <T extends HasInputElement> T numbersOnly(T hasInputElement) {
         hasInputElement.getInputElement().addEventListener("keypress", evt -> {
             KeyboardEvent keyboardEvent = Js.uncheckedCast(evt);
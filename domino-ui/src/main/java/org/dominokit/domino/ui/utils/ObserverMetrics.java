@@ -0,0 +1,38 @@
+package org.dominokit.domino.ui.utils;
+
+public class ObserverMetrics {
+
+    private final int mutationRecords;
+    private final int attachCallbacks;
+    private final int detachCallbacks;
+    private final int pendingAttachObservers;
+    private final int pendingDetachObservers;
+
+    public ObserverMetrics(int mutationRecords, int attachCallbacks, int detachCallbacks, int pendingAttachObservers, int pendingDetachObservers) {
+        this.mutationRecords = mutationRecords;
+        this.attachCallbacks = attachCallbacks;
+        this.detachCallbacks = detachCallbacks;
+        this.pendingAttachObservers = pendingAttachObservers;
+        this.pendingDetachObservers = pendingDetachObservers;
+    }
+
+    public int getMutationRecords() {
+        return mutationRecords;
+    }
+
+    public int getAttachCallbacks() {
+        return attachCallbacks;
+    }
+
+    public int getDetachCallbacks() {
+        return detachCallbacks;
+    }
+
+    public int getPendingAttachObservers() {
+        return pendingAttachObservers;
+    }
+
+    public int getPendingDetachObservers() {
+        return pendingDetachObservers;
+    }
+}
@@ -0,0 +1,6 @@
+package org.dominokit.domino.ui.utils;
+
+@FunctionalInterface
+public interface ObserverMetricsListener {
+    void onMutationsProcessed(ObserverMetrics metrics);
+}